@@ -102,7 +102,16 @@ const refreshAccessToken = async () => {
 };
 
 // 로그아웃
-const logout = () => {
+const logout = async () => {
+    // 서버에서 refresh 토큰 패밀리를 폐기 (실패해도 로컬 토큰은 삭제)
+    const refreshToken = getRefreshToken();
+    if (refreshToken) {
+        try {
+            await apiClient.post('/auth/logout', { refreshToken });
+        } catch (error) {
+            console.error('로그아웃 요청 실패:', error);
+        }
+    }
     removeTokens();
 };
 
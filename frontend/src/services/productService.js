@@ -4,10 +4,13 @@ import apiClient from './api';
  * 상품 관련 API 호출 함수들
  */
 
-// 모든 상품 조회
-export const getAllProducts = async () => {
+// 모든 상품 조회 (커서 페이지네이션: { content, nextCursor, hasNext })
+// includeRating: true 면 각 상품에 averageRating / reviewCount 포함
+export const getAllProducts = async (cursor = null, size = 20, includeRating = false) => {
     try {
-        const response = await apiClient.get('/products');
+        const response = await apiClient.get('/products', {
+            params: { cursor, size, includeRating }
+        });
         return response.data;
     } catch (error) {
         console.error('상품 목록 조회 실패:', error);
@@ -26,10 +29,12 @@ export const getProductById = async (id) => {
     }
 };
 
-// 카테고리별 상품 조회
-export const getProductsByCategory = async (category) => {
+// 카테고리별 상품 조회 (커서 페이지네이션)
+export const getProductsByCategory = async (category, cursor = null, size = 20, includeRating = false) => {
     try {
-        const response = await apiClient.get(`/products/category/${category}`);
+        const response = await apiClient.get(`/products/category/${category}`, {
+            params: { cursor, size, includeRating }
+        });
         return response.data;
     } catch (error) {
         console.error('카테고리별 상품 조회 실패:', error);
@@ -37,11 +42,11 @@ export const getProductsByCategory = async (category) => {
     }
 };
 
-// 상품 검색
-export const searchProducts = async (keyword) => {
+// 상품 검색 (커서 페이지네이션)
+export const searchProducts = async (keyword, cursor = null, size = 20, includeRating = false) => {
     try {
         const response = await apiClient.get('/products/search', {
-            params: { keyword }
+            params: { keyword, cursor, size, includeRating }
         });
         return response.data;
     } catch (error) {
@@ -50,6 +55,20 @@ export const searchProducts = async (keyword) => {
     }
 };
 
+// 상품 필터 조회 (카테고리/가격/재고/키워드 + 패싯 건수)
+// filters: { category, minPrice, maxPrice, inStock, keyword, sort, page, size, includeRating }
+export const filterProducts = async (filters = {}) => {
+    try {
+        const response = await apiClient.get('/products/filter', {
+            params: filters
+        });
+        return response.data;
+    } catch (error) {
+        console.error('상품 필터 조회 실패:', error);
+        throw error;
+    }
+};
+
 // 상품 등록
 export const createProduct = async (productData) => {
     try {
@@ -72,6 +91,17 @@ export const updateProduct = async (id, productData) => {
     }
 };
 
+// 재고 증감 조정 (delta: 입고는 양수, 차감은 음수)
+export const adjustStock = async (id, delta) => {
+    try {
+        const response = await apiClient.post(`/products/${id}/stock/adjust`, { delta });
+        return response.data;
+    } catch (error) {
+        console.error('재고 조정 실패:', error);
+        throw error;
+    }
+};
+
 // 상품 삭제
 export const deleteProduct = async (id) => {
     try {
@@ -5,7 +5,20 @@ import authService from './authService';
  * Q&A 관련 API 호출 함수들
  */
 
-// 질문 목록 조회 (페이지네이션)
+// 질문 목록 조회 (커서 페이지네이션: { content, nextCursor, hasNext })
+export const getQuestionFeed = async (cursor = null, size = 10) => {
+    try {
+        const response = await apiClient.get('/qna/feed', {
+            params: { cursor, size }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('질문 목록 조회 실패:', error);
+        throw error;
+    }
+};
+
+// 질문 목록 조회 (페이지 번호, 전체 건수 포함 - 관리자 화면용)
 export const getQuestions = async (page = 0, size = 10) => {
     try {
         const response = await apiClient.get(`/qna?page=${page}&size=${size}`);
@@ -100,3 +113,69 @@ export const createAnswer = async (questionId, answerData) => {
         throw error;
     }
 };
+
+// 미답변 질문 대기열 조회 (관리자, 오래된 순 커서 페이지네이션: { content, nextCursor, hasNext })
+export const getUnansweredQuestions = async (cursor = null, size = 10) => {
+    try {
+        const response = await apiClient.get('/qna/unanswered', {
+            params: { cursor, size }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('미답변 질문 조회 실패:', error);
+        throw error;
+    }
+};
+
+/**
+ * 미답변 질문 실시간 알림 구독 (관리자, SSE)
+ * - EventSource 는 Authorization 헤더를 보낼 수 없어 fetch 스트림으로 읽는다.
+ * - onQuestion(question): 새 질문, onRemoved(id): 답변/삭제로 대기열에서 빠진 질문
+ * - 반환된 함수를 호출하면 구독을 끊는다.
+ */
+export const subscribeUnansweredQuestions = ({ onQuestion, onRemoved, onError }) => {
+    const controller = new AbortController();
+
+    const dispatch = (block) => {
+        let event = 'message';
+        const data = [];
+        for (const line of block.split('\n')) {
+            if (line.startsWith('event:')) event = line.slice(6).trim();
+            else if (line.startsWith('data:')) data.push(line.slice(5));
+        }
+        if (data.length === 0) return;
+        const payload = JSON.parse(data.join('\n'));
+        if (event === 'question') onQuestion?.(payload);
+        else if (event === 'removed') onRemoved?.(payload.id);
+    };
+
+    (async () => {
+        try {
+            const response = await fetch(`${apiClient.defaults.baseURL}/qna/unanswered/stream`, {
+                headers: { 'Authorization': `Bearer ${authService.getAccessToken()}` },
+                signal: controller.signal
+            });
+            if (!response.ok) throw new Error(`구독 실패: ${response.status}`);
+
+            const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffer = '';
+            while (true) {
+                const { value, done } = await reader.read();
+                if (done) break;
+                buffer += value;
+                let index;
+                while ((index = buffer.indexOf('\n\n')) >= 0) {
+                    dispatch(buffer.slice(0, index));
+                    buffer = buffer.slice(index + 2);
+                }
+            }
+        } catch (error) {
+            if (error.name !== 'AbortError') {
+                console.error('미답변 질문 알림 구독 실패:', error);
+                onError?.(error);
+            }
+        }
+    })();
+
+    return () => controller.abort();
+};
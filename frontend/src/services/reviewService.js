@@ -5,10 +5,12 @@ import authService from './authService';
  * 리뷰 관련 API 호출 함수들
  */
 
-// 상품별 리뷰 목록 조회
-export const getReviewsByProductId = async (productId) => {
+// 상품별 리뷰 목록 조회 (커서 페이지네이션: { content, nextCursor, hasNext })
+export const getReviewsByProductId = async (productId, cursor = null, size = 10) => {
     try {
-        const response = await apiClient.get(`/reviews/product/${productId}`);
+        const response = await apiClient.get(`/reviews/product/${productId}`, {
+            params: { cursor, size }
+        });
         return response.data;
     } catch (error) {
         console.error('리뷰 목록 조회 실패:', error);
@@ -16,6 +18,19 @@ export const getReviewsByProductId = async (productId) => {
     }
 };
 
+// 상품 리뷰 본문 검색 ({ content: [{ review, highlights: [[시작, 끝]] }], nextCursor, hasNext })
+export const searchReviews = async (productId, keyword, cursor = null, size = 10) => {
+    try {
+        const response = await apiClient.get(`/reviews/product/${productId}/search`, {
+            params: { keyword, cursor, size }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('리뷰 검색 실패:', error);
+        throw error;
+    }
+};
+
 // 상품별 평균 별점 및 리뷰 개수 조회
 export const getProductRating = async (productId) => {
     try {
@@ -27,6 +42,30 @@ export const getProductRating = async (productId) => {
     }
 };
 
+// 상품별 별점 분포 조회 ({ productId, reviewCount, buckets: [{ rating, count, percentage }] })
+export const getRatingHistogram = async (productId) => {
+    try {
+        const response = await apiClient.get(`/reviews/product/${productId}/histogram`);
+        return response.data;
+    } catch (error) {
+        console.error('별점 분포 조회 실패:', error);
+        throw error;
+    }
+};
+
+// 여러 상품의 평균 별점 및 리뷰 개수 일괄 조회 ([{ productId, averageRating, reviewCount }])
+export const getProductRatings = async (productIds) => {
+    try {
+        const response = await apiClient.get('/reviews/ratings', {
+            params: { productIds: productIds.join(',') }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('평균 별점 일괄 조회 실패:', error);
+        throw error;
+    }
+};
+
 // 리뷰 생성
 export const createReview = async (reviewData) => {
     try {
@@ -43,6 +82,39 @@ export const createReview = async (reviewData) => {
     }
 };
 
+// 리뷰 비동기 접수 (같은 idempotencyKey 로 재시도하면 중복 접수되지 않음)
+export const submitReviewAsync = async (reviewData, idempotencyKey) => {
+    try {
+        const token = authService.getToken();
+        const response = await apiClient.post('/reviews/async', reviewData, {
+            headers: {
+                'Authorization': `Bearer ${token}`,
+                'Idempotency-Key': idempotencyKey
+            }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('리뷰 접수 실패:', error);
+        throw error;
+    }
+};
+
+// 리뷰 접수 상태 조회 ({ id, status: PENDING | COMPLETED | REJECTED, reviewId, error })
+export const getReviewSubmission = async (submissionId) => {
+    try {
+        const token = authService.getToken();
+        const response = await apiClient.get(`/reviews/submissions/${submissionId}`, {
+            headers: {
+                'Authorization': `Bearer ${token}`
+            }
+        });
+        return response.data;
+    } catch (error) {
+        console.error('리뷰 접수 상태 조회 실패:', error);
+        throw error;
+    }
+};
+
 // 리뷰 삭제
 export const deleteReview = async (reviewId) => {
     try {
@@ -0,0 +1,79 @@
+package com.example.view_shoppingmall.security;
+
+import com.example.view_shoppingmall.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 JWT 검증 비용 비교
+ * - perRequestTwoParses: 이전 필터 방식 (요청마다 파서 생성, validateToken + getUsernameFromToken 두 번 파싱)
+ * - sharedParserSingleParse: 공유 파서로 한 번 파싱
+ * - verifyCached: JwtTokenProvider.verify (최근 검증한 토큰 캐시 적중)
+ *
+ * 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET =
+            "dGhpc0lzQVZlcnlMb25nU2VjcmV0S2V5Rm9ySldUQXV0aGVudGljYXRpb25XaXRoQXRMZWFzdDI1NkJpdHM=";
+
+    private Key key;
+    private JwtParser sharedParser;
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        tokenProvider = new JwtTokenProvider();
+        setField("jwtSecret", SECRET);
+        setField("jwtExpirationMs", 3_600_000L);
+        setField("refreshExpirationMs", 86_400_000L);
+        setField("verifiedCacheMaximumSize", 10_000L);
+        tokenProvider.init();
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setRole("USER");
+        token = tokenProvider.generateAccessToken(user, "benchmark-family");
+
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    @Benchmark
+    public String perRequestTwoParses() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Claims sharedParserSingleParse() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return tokenProvider.verify(token);
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(tokenProvider, value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.view_shoppingmall.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 상품 상세 캐시 (key: 상품 ID)
+    public static final String PRODUCT = "product";
+    // 카테고리별 상품 목록 캐시 (key: 카테고리:커서:크기)
+    public static final String PRODUCT_CATEGORY = "productCategory";
+    // 상품 목록 버전 캐시 (key: 카테고리, 전체 목록은 "*")
+    public static final String PRODUCT_LIST_VERSION = "productListVersion";
+    // 답변 완료된 질문 상세 캐시 (key: 질문 ID)
+    public static final String QUESTION = "question";
+
+    @Value("${cache.product.maximum-size:10000}")
+    private long productMaximumSize;
+
+    @Value("${cache.product.expire-after-write:10m}")
+    private Duration productExpireAfterWrite;
+
+    @Value("${cache.product-category.maximum-size:1000}")
+    private long productCategoryMaximumSize;
+
+    @Value("${cache.product-category.expire-after-write:5m}")
+    private Duration productCategoryExpireAfterWrite;
+
+    @Value("${cache.question.maximum-size:10000}")
+    private long questionMaximumSize;
+
+    @Value("${cache.question.expire-after-write:30m}")
+    private Duration questionExpireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록된 캐시 외에는 생성하지 않음
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(PRODUCT,
+                build(productMaximumSize, productExpireAfterWrite));
+        cacheManager.registerCustomCache(PRODUCT_CATEGORY,
+                build(productCategoryMaximumSize, productCategoryExpireAfterWrite));
+        cacheManager.registerCustomCache(PRODUCT_LIST_VERSION,
+                build(productCategoryMaximumSize, productCategoryExpireAfterWrite));
+        cacheManager.registerCustomCache(QUESTION,
+                build(questionMaximumSize, questionExpireAfterWrite));
+        return cacheManager;
+    }
+
+    private Cache<Object, Object> build(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
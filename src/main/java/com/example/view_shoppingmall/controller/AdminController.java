@@ -0,0 +1,124 @@
+package com.example.view_shoppingmall.controller;
+
+import com.example.view_shoppingmall.dto.BulkImportResult;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.security.LoginAdmission;
+import com.example.view_shoppingmall.service.RatingReconciliationJob;
+import com.example.view_shoppingmall.service.ReviewSubmissionService;
+import com.example.view_shoppingmall.service.UnansweredQuestionStream;
+import com.example.view_shoppingmall.service.UserBulkService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    private final CacheManager cacheManager;
+    private final RatingReconciliationJob ratingReconciliationJob;
+    private final LoginAdmission loginAdmission;
+    private final UserBulkService userBulkService;
+    private final ReviewSubmissionService reviewSubmissionService;
+    private final UnansweredQuestionStream unansweredQuestionStream;
+
+    // 캐시 적중/미스/제거 통계 조회 (관리자만)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 조회할 수 있습니다."));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+
+                Map<String, Object> cacheStats = new LinkedHashMap<>();
+                cacheStats.put("size", nativeCache.estimatedSize());
+                cacheStats.put("hitCount", stats.hitCount());
+                cacheStats.put("missCount", stats.missCount());
+                cacheStats.put("hitRate", stats.hitRate());
+                cacheStats.put("evictionCount", stats.evictionCount());
+                result.put(name, cacheStats);
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // 로그인 처리 지표 조회 - 검증 풀 대기열/처리 중 작업 수, 거절/제한 건수, 검증 시간 (관리자만)
+    @GetMapping("/login/stats")
+    public ResponseEntity<?> getLoginStats(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 조회할 수 있습니다."));
+        }
+
+        return ResponseEntity.ok(loginAdmission.getStats());
+    }
+
+    // 비동기 리뷰 접수 지표 조회 - 큐 크기, 접수/큐 초과/작성/거절 건수 (관리자만)
+    @GetMapping("/reviews/submissions/stats")
+    public ResponseEntity<?> getReviewSubmissionStats(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 조회할 수 있습니다."));
+        }
+
+        return ResponseEntity.ok(reviewSubmissionService.getStats());
+    }
+
+    // 미답변 질문 실시간 알림 지표 조회 - 구독자 수, 전송/버퍼 초과로 버린 이벤트 수 (관리자만)
+    @GetMapping("/qna/stream/stats")
+    public ResponseEntity<?> getQnaStreamStats(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 조회할 수 있습니다."));
+        }
+
+        return ResponseEntity.ok(unansweredQuestionStream.getStats());
+    }
+
+    // 사용자 대량 등록 (NDJSON 본문 스트리밍, 관리자만)
+    @PostMapping(value = "/users/import", consumes = "application/x-ndjson")
+    public ResponseEntity<?> importUsers(@AuthenticationPrincipal User user, HttpServletRequest request) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 실행할 수 있습니다."));
+        }
+
+        try {
+            BulkImportResult result = userBulkService.importNdjson(request.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 상품 별점 합계/개수 즉시 재계산 (관리자만)
+    @PostMapping("/ratings/reconcile")
+    public ResponseEntity<?> reconcileRatings(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 실행할 수 있습니다."));
+        }
+
+        ratingReconciliationJob.reconcile();
+        return ResponseEntity.ok(Map.of("message", "별점 재계산이 완료되었습니다."));
+    }
+}
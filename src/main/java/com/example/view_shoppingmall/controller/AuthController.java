@@ -4,17 +4,26 @@ import com.example.view_shoppingmall.dto.*;
 import com.example.view_shoppingmall.entity.User;
 import com.example.view_shoppingmall.repository.UserRepository;
 import com.example.view_shoppingmall.security.JwtTokenProvider;
+import com.example.view_shoppingmall.security.LoginAdmission;
+import com.example.view_shoppingmall.security.VerifiedToken;
+import com.example.view_shoppingmall.service.RefreshTokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -25,25 +34,40 @@ public class AuthController {
         private final UserRepository userRepository;
         private final PasswordEncoder passwordEncoder;
         private final JwtTokenProvider tokenProvider;
+        private final LoginAdmission loginAdmission;
+        private final RefreshTokenService refreshTokenService;
 
+        // 로그인 (IP, 사용자명+IP 별 시도 제한 후 비밀번호 검증은 전용 풀에서 비동기로 실행)
         @PostMapping("/login")
-        public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+        public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest,
+                        HttpServletRequest request) {
+                long retryAfter = loginAdmission.checkThrottle(request.getRemoteAddr(), loginRequest.getUsername());
+                if (retryAfter > 0) {
+                        return CompletableFuture.completedFuture(
+                                        tooManyRequests(retryAfter, "Too many login attempts. Please try again later"));
+                }
+
+                try {
+                        return loginAdmission.submit(() -> authenticate(loginRequest));
+                } catch (RejectedExecutionException e) {
+                        return CompletableFuture.completedFuture(
+                                        tooManyRequests(1, "Login is busy. Please try again shortly"));
+                }
+        }
+
+        private ResponseEntity<?> authenticate(LoginRequest loginRequest) {
                 try {
                         Authentication authentication = authenticationManager.authenticate(
                                         new UsernamePasswordAuthenticationToken(
                                                         loginRequest.getUsername(),
                                                         loginRequest.getPassword()));
 
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        String accessToken = tokenProvider.generateToken(authentication);
-                        String refreshToken = tokenProvider.generateRefreshToken(loginRequest.getUsername());
-
-                        User user = userRepository.findByUsername(loginRequest.getUsername())
-                                        .orElseThrow(() -> new RuntimeException("User not found"));
+                        User user = (User) authentication.getPrincipal();
+                        TokenRefreshResponse tokens = refreshTokenService.issue(user);
 
                         AuthResponse response = new AuthResponse(
-                                        accessToken,
-                                        refreshToken,
+                                        tokens.getAccessToken(),
+                                        tokens.getRefreshToken(),
                                         user.getUsername(),
                                         user.getEmail(),
                                         user.getRole());
@@ -55,6 +79,12 @@ public class AuthController {
                 }
         }
 
+        private ResponseEntity<?> tooManyRequests(long retryAfterSeconds, String message) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                .body(new MessageResponse(message));
+        }
+
         @PostMapping("/signup")
         public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest signupRequest) {
                 // 사용자명 중복 확인
@@ -84,18 +114,43 @@ public class AuthController {
 
         @PostMapping("/refresh")
         public ResponseEntity<?> refreshToken(@RequestBody TokenRefreshRequest request) {
-                String refreshToken = request.getRefreshToken();
+                VerifiedToken refreshToken = tokenProvider.verify(request.getRefreshToken());
+
+                if (refreshToken == null || !refreshToken.isRefreshToken()) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                        .body(new MessageResponse("Invalid or expired refresh token"));
+                }
 
-                if (refreshToken == null || !tokenProvider.validateRefreshToken(refreshToken)) {
+                // 사용한 토큰은 교체되어 다시 쓸 수 없고, 재사용이 감지되면 패밀리 전체가 폐기된다
+                TokenRefreshResponse tokens = refreshTokenService.rotate(refreshToken);
+                if (tokens == null) {
                         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                                         .body(new MessageResponse("Invalid or expired refresh token"));
                 }
 
-                String username = tokenProvider.getUsernameFromToken(refreshToken);
-                String newAccessToken = tokenProvider.generateTokenFromUsername(username);
-                String newRefreshToken = tokenProvider.generateRefreshToken(username);
+                return ResponseEntity.ok(tokens);
+        }
+
+        // 로그아웃 (refresh 토큰이 속한 패밀리 폐기 - 같은 로그인에서 발급된 access 토큰도 무효화)
+        @PostMapping("/logout")
+        public ResponseEntity<?> logout(@RequestBody TokenRefreshRequest request) {
+                VerifiedToken refreshToken = tokenProvider.verify(request.getRefreshToken());
+                if (refreshToken != null && refreshToken.isRefreshToken()) {
+                        refreshTokenService.revoke(refreshToken);
+                }
+                return ResponseEntity.ok(new MessageResponse("Logged out successfully"));
+        }
+
+        // 모든 기기에서 로그아웃 (사용자의 모든 토큰 패밀리 폐기)
+        @PostMapping("/logout-all")
+        public ResponseEntity<?> logoutAll(@AuthenticationPrincipal User user) {
+                if (user == null) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                        .body(new MessageResponse("Not authenticated"));
+                }
 
-                return ResponseEntity.ok(new TokenRefreshResponse(newAccessToken, newRefreshToken));
+                refreshTokenService.revokeAll(user.getId());
+                return ResponseEntity.ok(new MessageResponse("Logged out from all devices"));
         }
 //매핑
         @GetMapping("/me")
@@ -1,13 +1,37 @@
 package com.example.view_shoppingmall.controller;
 
+import com.example.view_shoppingmall.dto.BulkImportResult;
+import com.example.view_shoppingmall.dto.CursorPage;
 import com.example.view_shoppingmall.dto.ProductDTO;
+import com.example.view_shoppingmall.dto.ProductFilterRequest;
+import com.example.view_shoppingmall.dto.ProductFilterResponse;
+import com.example.view_shoppingmall.dto.ProductListVersion;
+import com.example.view_shoppingmall.dto.StockAdjustRequest;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.service.ProductBulkService;
 import com.example.view_shoppingmall.service.ProductService;
+import com.example.view_shoppingmall.service.StockReservationService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/products")
@@ -16,33 +40,74 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final StockReservationService stockReservationService;
 
-    // 모든 상품 조회
+    // 모든 상품 조회 (커서 페이지네이션, ETag 조건부 GET, includeRating=true 면 별점 요약 포함)
     @GetMapping
-    public ResponseEntity<List<ProductDTO>> getAllProducts() {
-        List<ProductDTO> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getAllProducts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "includeRating", defaultValue = "false") boolean includeRating,
+            WebRequest webRequest) {
+        ProductListVersion version = productService.getListVersion(null);
+        return listResponse(listETag(version, null, cursor, size), includeRating, webRequest,
+                () -> productService.getAllProducts(cursor, size));
     }
 
-    // 상품 ID로 조회
+    // 상품 ID로 조회 (ETag / Last-Modified 조건부 GET)
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDTO> getProductById(@PathVariable("id") Long id) {
+    public ResponseEntity<ProductDTO> getProductById(@PathVariable("id") Long id, WebRequest webRequest) {
         ProductDTO product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+
+        long lastModified = toEpochMilli(product.getUpdatedAt());
+        String eTag = "\"" + id + "-" + lastModified + "\"";
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(product);
     }
 
-    // 카테고리별 상품 조회
+    // 카테고리별 상품 조회 (커서 페이지네이션, ETag 조건부 GET, includeRating=true 면 별점 요약 포함)
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<ProductDTO>> getProductsByCategory(@PathVariable("category") String category) {
-        List<ProductDTO> products = productService.getProductsByCategory(category);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getProductsByCategory(
+            @PathVariable("category") String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "includeRating", defaultValue = "false") boolean includeRating,
+            WebRequest webRequest) {
+        ProductListVersion version = productService.getListVersion(category);
+        return listResponse(listETag(version, category, cursor, size), includeRating, webRequest,
+                () -> productService.getProductsByCategory(category, cursor, size));
     }
 
-    // 상품명 검색
+    // 상품명 검색 (커서 페이지네이션, includeRating=true 면 별점 요약 포함)
     @GetMapping("/search")
-    public ResponseEntity<List<ProductDTO>> searchProducts(@RequestParam("keyword") String keyword) {
-        List<ProductDTO> products = productService.searchProducts(keyword);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> searchProducts(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "includeRating", defaultValue = "false") boolean includeRating) {
+        try {
+            CursorPage<ProductDTO> products = productService.searchProducts(keyword, cursor, size);
+            if (includeRating) {
+                products = new CursorPage<>(productService.withRatingSummaries(products.getContent()),
+                        products.getNextCursor(), products.isHasNext());
+            }
+            return ResponseEntity.ok(products);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 상품 필터 조회 (카테고리/가격/재고/키워드 조합 + 패싯 건수)
+    @GetMapping("/filter")
+    public ResponseEntity<ProductFilterResponse> filterProducts(@ModelAttribute ProductFilterRequest request) {
+        ProductFilterResponse response = productService.filterProducts(request);
+        if (Boolean.TRUE.equals(request.getIncludeRating())) {
+            response.setContent(productService.withRatingSummaries(response.getContent()));
+        }
+        return ResponseEntity.ok(response);
     }
 
     // 상품 등록
@@ -52,6 +117,49 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
     }
 
+    // 상품 대량 등록 (NDJSON 또는 CSV 본문 스트리밍)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importProducts(HttpServletRequest request) {
+        try {
+            BulkImportResult result = MediaType.parseMediaType(request.getContentType())
+                    .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    ? productBulkService.importCsv(request.getInputStream())
+                    : productBulkService.importNdjson(request.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (IOException | RuntimeException e) {
+            // 메시지가 없는 예외도 있으므로 (Map.of 는 null 값을 받지 않음) 기본 문구로 대신한다
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    Objects.requireNonNullElse(e.getMessage(), "상품 대량 등록에 실패했습니다.")));
+        }
+    }
+
+    // 상품 전체 내보내기 (format: ndjson | csv | json, DB 커서로 읽으며 스트리밍) - 내려받는 동안 DB 연결을 점유하므로 관리자만
+    @GetMapping("/export")
+    public ResponseEntity<?> exportProducts(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 내보낼 수 있습니다."));
+        }
+        if ("json".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.json\"")
+                    .<StreamingResponseBody>body(productBulkService::exportJson);
+        }
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.csv\"")
+                    .<StreamingResponseBody>body(productBulkService::exportCsv);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+                .<StreamingResponseBody>body(productBulkService::exportNdjson);
+    }
+
     // 상품 수정
     @PutMapping("/{id}")
     public ResponseEntity<ProductDTO> updateProduct(
@@ -61,10 +169,71 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    // 재고 증감 조정 (상품 수정과 별도 - 예약 차감과 경합하지 않도록 증감으로만 반영)
+    @PostMapping("/{id}/stock/adjust")
+    public ResponseEntity<?> adjustStock(
+            @PathVariable("id") Long id,
+            @RequestBody StockAdjustRequest request) {
+        try {
+            int stock = stockReservationService.adjustStock(id, request.getDelta());
+            return ResponseEntity.ok(Map.of("productId", id, "stock", stock));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 상품 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable("id") Long id) {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 목록 응답 - 별점 미포함이면 목록 버전 ETag 로 조회 전에 304 를 판단하고,
+     * 별점 포함이면 별점은 목록 버전에 반영되지 않으므로 별점 값까지 더한 ETag 로 판단한다.
+     */
+    private ResponseEntity<?> listResponse(String eTag, boolean includeRating, WebRequest webRequest,
+                                           Supplier<CursorPage<ProductDTO>> loader) {
+        if (!includeRating && webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+
+        try {
+            CursorPage<ProductDTO> products = loader.get();
+            if (includeRating) {
+                products = new CursorPage<>(productService.withRatingSummaries(products.getContent()),
+                        products.getNextCursor(), products.isHasNext());
+                if (webRequest.checkNotModified(ratedETag(eTag, products.getContent()))) {
+                    return null; // 304 Not Modified
+                }
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(products);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 별점 포함 목록 ETag - 목록 ETag 에 페이지 상품들의 리뷰 개수/평균을 더해 계산
+    private String ratedETag(String eTag, List<ProductDTO> products) {
+        StringBuilder raw = new StringBuilder(eTag);
+        for (ProductDTO product : products) {
+            raw.append('|').append(product.getReviewCount()).append(':').append(product.getAverageRating());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 목록 ETag - 목록 버전(상품 수, 최종 수정일시, 최대 ID)과 페이지 조건으로 계산
+     * 삭제는 최종 수정일시를 앞당기지 않으므로 목록에는 Last-Modified 대신 ETag 만 사용한다.
+     */
+    private String listETag(ProductListVersion version, String category, String cursor, Integer size) {
+        String raw = version.getCount() + "|" + toEpochMilli(version.getLastModified()) + "|" + version.getMaxId()
+                + "|" + category + "|" + cursor + "|" + size;
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
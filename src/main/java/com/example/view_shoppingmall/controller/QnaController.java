@@ -3,12 +3,15 @@ package com.example.view_shoppingmall.controller;
 import com.example.view_shoppingmall.dto.*;
 import com.example.view_shoppingmall.entity.User;
 import com.example.view_shoppingmall.service.QnaService;
+import com.example.view_shoppingmall.service.UnansweredQuestionStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -20,8 +23,9 @@ import java.util.Map;
 public class QnaController {
 
     private final QnaService qnaService;
+    private final UnansweredQuestionStream unansweredQuestionStream;
 
-    // 질문 목록 조회 (페이지네이션)
+    // 질문 목록 조회 (페이지 번호 모드, 전체 건수 포함 - 관리자 화면용)
     @GetMapping
     public ResponseEntity<Page<QuestionDTO>> getQuestions(
             @RequestParam(defaultValue = "0") int page,
@@ -30,7 +34,53 @@ public class QnaController {
         return ResponseEntity.ok(questions);
     }
 
-    // 질문 검색
+    // 질문 목록 조회 (커서 모드, 최신순 - 전체 건수 없이 hasNext 만 반환)
+    @GetMapping("/feed")
+    public ResponseEntity<?> getQuestionFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<QuestionDTO> questions = qnaService.getQuestionsByCursor(cursor, size);
+            return ResponseEntity.ok(questions);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 미답변 질문 대기열 조회 (관리자만, 오래된 순 커서 페이지네이션)
+    @GetMapping("/unanswered")
+    public ResponseEntity<?> getUnansweredQuestions(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자만 조회할 수 있습니다."));
+        }
+
+        try {
+            CursorPage<QuestionDTO> questions = qnaService.getUnansweredQuestions(cursor, size);
+            return ResponseEntity.ok(questions);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 미답변 질문 실시간 알림 구독 (관리자만, SSE - 새 질문 "question", 답변/삭제 "removed")
+    @GetMapping(value = "/unanswered/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUnansweredQuestions(@AuthenticationPrincipal User user) {
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            return ResponseEntity.ok(unansweredQuestionStream.subscribe());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // 질문 검색 (관련도 상위 qna.search.max-results 건까지 - totalElements 도 그 값이 상한)
     @GetMapping("/search")
     public ResponseEntity<Page<QuestionDTO>> searchQuestions(
             @RequestParam String keyword,
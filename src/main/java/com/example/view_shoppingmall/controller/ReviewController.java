@@ -1,15 +1,22 @@
 package com.example.view_shoppingmall.controller;
 
+import com.example.view_shoppingmall.dto.CursorPage;
+import com.example.view_shoppingmall.dto.RatingHistogramDTO;
+import com.example.view_shoppingmall.dto.RatingSummaryDTO;
 import com.example.view_shoppingmall.dto.ReviewDTO;
 import com.example.view_shoppingmall.dto.ReviewRequestDTO;
+import com.example.view_shoppingmall.dto.ReviewSearchHitDTO;
+import com.example.view_shoppingmall.dto.ReviewSubmissionDTO;
 import com.example.view_shoppingmall.entity.User;
 import com.example.view_shoppingmall.service.ReviewService;
+import com.example.view_shoppingmall.service.ReviewSubmissionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,23 +28,64 @@ import java.util.Map;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewSubmissionService reviewSubmissionService;
 
-    // 상품별 리뷰 목록 조회
+    // 상품별 리뷰 목록 조회 (커서 페이지네이션, 최신순)
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<ReviewDTO>> getReviewsByProductId(@PathVariable("productId") Long productId) {
-        List<ReviewDTO> reviews = reviewService.getReviewsByProductId(productId);
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<?> getReviewsByProductId(
+            @PathVariable("productId") Long productId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<ReviewDTO> reviews = reviewService.getReviewsByProductId(productId, cursor, size);
+            return ResponseEntity.ok(reviews);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 상품 리뷰 본문 검색 (관련도순 커서 페이지네이션, 결과마다 본문 내 검색어 위치 포함)
+    @GetMapping("/product/{productId}/search")
+    public ResponseEntity<?> searchReviews(
+            @PathVariable("productId") Long productId,
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<ReviewSearchHitDTO> hits = reviewService.searchReviews(productId, keyword, cursor, size);
+            return ResponseEntity.ok(hits);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     // 상품별 평균 별점 및 리뷰 개수 조회
     @GetMapping("/product/{productId}/rating")
     public ResponseEntity<Map<String, Object>> getProductRating(@PathVariable("productId") Long productId) {
+        RatingSummaryDTO summary = reviewService.getRatingSummary(productId);
         Map<String, Object> result = new HashMap<>();
-        result.put("averageRating", reviewService.getAverageRating(productId));
-        result.put("reviewCount", reviewService.getReviewCount(productId));
+        result.put("averageRating", summary.getAverageRating());
+        result.put("reviewCount", summary.getReviewCount());
         return ResponseEntity.ok(result);
     }
 
+    // 상품별 별점 분포 조회 (5점 -> 1점 순 개수/비율)
+    @GetMapping("/product/{productId}/histogram")
+    public ResponseEntity<RatingHistogramDTO> getRatingHistogram(@PathVariable("productId") Long productId) {
+        return ResponseEntity.ok(reviewService.getRatingHistogram(productId));
+    }
+
+    // 여러 상품의 평균 별점 및 리뷰 개수 일괄 조회 (상품 그리드용, 예: ?productIds=1,2,3)
+    @GetMapping("/ratings")
+    public ResponseEntity<?> getProductRatings(@RequestParam("productIds") List<Long> productIds) {
+        try {
+            List<RatingSummaryDTO> summaries = reviewService.getRatingSummaries(productIds);
+            return ResponseEntity.ok(summaries);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 리뷰 생성
     @PostMapping
     public ResponseEntity<?> createReview(
@@ -56,6 +104,47 @@ public class ReviewController {
         }
     }
 
+    /**
+     * 리뷰 비동기 접수 - 202 와 접수 상태를 바로 반환하고, 작성 결과는 접수 상태 조회로 확인한다.
+     * - Idempotency-Key 가 같은 재요청은 새로 접수하지 않고 기존 접수 상태를 반환한다.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<?> submitReview(
+            @RequestBody ReviewRequestDTO requestDTO,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            ReviewSubmissionDTO submission = reviewSubmissionService.submit(requestDTO, user.getId(), idempotencyKey);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reviews/submissions/" + submission.getId()))
+                    .body(submission);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 리뷰 접수 상태 조회 (본인 접수만)
+    @GetMapping("/submissions/{id}")
+    public ResponseEntity<?> getSubmission(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            return ResponseEntity.ok(reviewSubmissionService.getSubmission(id, user.getId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 리뷰 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteReview(
@@ -0,0 +1,76 @@
+package com.example.view_shoppingmall.controller;
+
+import com.example.view_shoppingmall.dto.StockReservationDTO;
+import com.example.view_shoppingmall.dto.StockReservationRequest;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stock/reservations")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class StockController {
+
+    private final StockReservationService stockReservationService;
+
+    // 재고 예약
+    @PostMapping
+    public ResponseEntity<?> reserve(
+            @RequestBody StockReservationRequest request,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            StockReservationDTO reservation = stockReservationService.reserve(request, user.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 예약 확정 (구매 완료)
+    @PostMapping("/{id}/commit")
+    public ResponseEntity<?> commit(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            StockReservationDTO reservation = stockReservationService.commit(id, user.getId());
+            return ResponseEntity.ok(reservation);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 예약 해제 (재고 복구)
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> release(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            stockReservationService.release(id, user.getId());
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 등록 결과
+ * - errors 에는 최대 MAX_ERRORS 건까지만 담고, 전체 실패 건수는 failed 로 확인한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResult {
+
+    public static final int MAX_ERRORS = 100;
+
+    private long total;
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+
+    // 행 단위 오류 기록
+    public void addError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.view_shoppingmall.dto;
+
+import com.example.view_shoppingmall.util.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다.
+     * 초과분 한 건이 있으면 다음 페이지가 있는 것으로 보고 잘라낸다.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 메모리에 있는 전체 결과(관련도순 등)에서 위치 커서로 한 페이지를 잘라낸다.
+     * 커서는 CursorCodec 위치 커서이며, 음수나 다른 종류의 커서는 잘못된 커서로 거절된다.
+     */
+    public static <T> CursorPage<T> slice(List<T> rows, String cursor, int size) {
+        int offset = CursorCodec.decodeOffset(cursor);
+        if (offset >= rows.size()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+        int end = Math.min(offset + size, rows.size());
+        boolean hasNext = end < rows.size();
+        return new CursorPage<>(rows.subList(offset, end), hasNext ? CursorCodec.encodeOffset(end) : null, hasNext);
+    }
+}
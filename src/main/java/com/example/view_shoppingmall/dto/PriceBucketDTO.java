@@ -0,0 +1,14 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBucketDTO {
+    private Integer minPrice;   // 포함 (null 이면 하한 없음)
+    private Integer maxPrice;   // 미포함 (null 이면 상한 없음)
+    private Long count;
+}
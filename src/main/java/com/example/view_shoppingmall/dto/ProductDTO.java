@@ -1,9 +1,12 @@
 package com.example.view_shoppingmall.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +18,17 @@ public class ProductDTO {
     private Integer stock;
     private String imageUrl;
     private String category;
+    private LocalDateTime updatedAt;
+
+    // 목록 조회 시 includeRating=true 로 요청한 경우에만 채워진다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double averageRating;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long reviewCount;
+
+    // 별점 요약을 담은 사본 (캐시에 보관된 DTO 는 변경하지 않는다)
+    public ProductDTO withRating(RatingSummaryDTO summary) {
+        return new ProductDTO(id, name, description, price, stock, imageUrl, category, updatedAt,
+                summary.getAverageRating(), summary.getReviewCount());
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 패싯 집계 결과
+ * - 각 패싯은 자기 자신의 조건만 제외한 나머지 필터를 적용한 건수이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+    private Map<String, Long> categories;
+    private List<PriceBucketDTO> priceBuckets;
+    private Long inStock;
+}
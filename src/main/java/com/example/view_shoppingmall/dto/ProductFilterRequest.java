@@ -0,0 +1,20 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterRequest {
+    private String category;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private Boolean inStock;
+    private String keyword;
+    private String sort;    // latest(기본), price_asc, price_desc, name
+    private Integer page;
+    private Integer size;
+    private Boolean includeRating;  // true 면 상품별 별점 요약 포함
+}
@@ -0,0 +1,21 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterResponse {
+    private List<ProductDTO> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean hasNext;
+    // 키워드 검색 결과가 product.search.max-results 를 넘어 건수/패싯이 관련도 상위 결과 기준으로 집계됨
+    private boolean truncated;
+    private ProductFacetsDTO facets;
+}
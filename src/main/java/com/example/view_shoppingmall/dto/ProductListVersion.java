@@ -0,0 +1,20 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 버전 (조건부 GET 검증자 계산용)
+ * - 상품 수, 최종 수정일시, 최대 ID 중 하나라도 바뀌면 목록이 바뀐 것으로 본다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductListVersion {
+    private Long count;
+    private LocalDateTime lastModified;
+    private Long maxId;
+}
@@ -18,4 +18,20 @@ public class QuestionDTO {
     private Boolean isAnswered;
     private LocalDateTime createdAt;
     private AnswerDTO answer;
+
+    // 답변 없이 생성 (JPQL 생성자 표현식용)
+    public QuestionDTO(Long id, Long userId, String username, String title, String content,
+                       Boolean isAnswered, LocalDateTime createdAt) {
+        this(id, userId, username, title, content, isAnswered, createdAt, null);
+    }
+
+    // 답변 포함 생성 (상세 조회 JPQL 생성자 표현식용, 답변이 없으면 answerId 가 null)
+    public QuestionDTO(Long id, Long userId, String username, String title, String content,
+                       Boolean isAnswered, LocalDateTime createdAt,
+                       Long answerId, Long answerUserId, String answerUsername,
+                       String answerContent, LocalDateTime answerCreatedAt) {
+        this(id, userId, username, title, content, isAnswered, createdAt,
+                answerId == null ? null
+                        : new AnswerDTO(answerId, id, answerUserId, answerUsername, answerContent, answerCreatedAt));
+    }
 }
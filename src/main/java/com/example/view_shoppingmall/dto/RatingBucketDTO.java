@@ -0,0 +1,14 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingBucketDTO {
+    private Integer rating;     // 1~5
+    private Long count;
+    private Double percentage;  // 전체 리뷰 대비 비율(%), 소수 첫째 자리 반올림
+}
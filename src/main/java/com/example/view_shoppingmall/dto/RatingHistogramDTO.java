@@ -0,0 +1,32 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingHistogramDTO {
+    private Long productId;
+    private Long reviewCount;
+    private List<RatingBucketDTO> buckets;  // 5점 -> 1점 순
+
+    // 별점 순 개수 배열(index 0 = 1점)로 생성
+    public static RatingHistogramDTO of(Long productId, long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        List<RatingBucketDTO> buckets = new ArrayList<>(counts.length);
+        for (int rating = counts.length; rating >= 1; rating--) {
+            long count = counts[rating - 1];
+            double percentage = total == 0 ? 0.0 : Math.round(count * 1000.0 / total) / 10.0;
+            buckets.add(new RatingBucketDTO(rating, count, percentage));
+        }
+        return new RatingHistogramDTO(productId, total, buckets);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDTO {
+    private Long productId;
+    private Double averageRating;   // 소수 첫째 자리 반올림, 리뷰가 없으면 0.0
+    private Long reviewCount;
+
+    // 별점 합계/개수로 생성 (JPQL 생성자 표현식용)
+    public RatingSummaryDTO(Long productId, Long ratingSum, Long ratingCount) {
+        this.productId = productId;
+        this.reviewCount = ratingCount;
+        this.averageRating = ratingCount == null || ratingCount == 0
+                ? 0.0
+                : Math.round((double) ratingSum / ratingCount * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSearchHitDTO {
+    private ReviewDTO review;
+    private List<int[]> highlights;  // content 안에서 검색어가 나온 [시작, 끝) 위치 (겹치는 구간은 병합)
+}
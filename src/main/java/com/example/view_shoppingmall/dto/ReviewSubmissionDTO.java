@@ -0,0 +1,28 @@
+package com.example.view_shoppingmall.dto;
+
+import com.example.view_shoppingmall.entity.ReviewSubmission;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSubmissionDTO {
+    private Long id;
+    private String idempotencyKey;
+    private Long productId;
+    private ReviewSubmission.Status status;  // PENDING -> COMPLETED / REJECTED
+    private Long reviewId;                   // 작성된 리뷰 ID (COMPLETED)
+    private String error;                    // 거절 사유 (REJECTED)
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    public static ReviewSubmissionDTO from(ReviewSubmission submission) {
+        return new ReviewSubmissionDTO(submission.getId(), submission.getIdempotencyKey(),
+                submission.getProductId(), submission.getStatus(), submission.getReviewId(),
+                submission.getError(), submission.getCreatedAt(), submission.getProcessedAt());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustRequest {
+    // 증감 수량 (입고는 양수, 차감은 음수)
+    private Integer delta;
+}
@@ -0,0 +1,18 @@
+package com.example.view_shoppingmall.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationDTO {
+    private Long id;
+    private Long productId;
+    private Integer quantity;
+    private String status;
+    private LocalDateTime expiresAt;
+}
@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // 카테고리별 커서 페이지네이션 (category = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_products_category_id", columnList = "category, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,13 +31,23 @@ public class Product {
     @Column(nullable = false)
     private Integer price;
 
-    @Column(nullable = false)
+    // 재고 (예약/조정 시 JPQL 조건부 증감 - 엔티티 저장으로는 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private Integer stock;
 
     private String imageUrl;
 
     private String category;
 
+    // 별점 합계/개수 (리뷰 작성/삭제 시 JPQL 로 증감 - 엔티티 저장으로는 덮어쓰지 않음)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long ratingCount = 0L;
+
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
@@ -8,7 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "questions")
+@Table(name = "questions", indexes = {
+        // 최신순 커서 페이지네이션 (ORDER BY created_at DESC, id DESC)
+        @Index(name = "idx_questions_created_id", columnList = "created_at, id"),
+        // 미답변 질문 대기열 (WHERE is_answered = false ORDER BY created_at, id)
+        @Index(name = "idx_questions_answered_created_id", columnList = "is_answered, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,55 @@
+package com.example.view_shoppingmall.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 별점(1~5) 분포
+ * - 리뷰 작성/삭제 시 RatingHistogramService 가 메모리에 모아 두었다가 주기적으로 증감분을 반영한다.
+ */
+@Entity
+@Table(name = "rating_histograms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingHistogram {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "star1_count", nullable = false)
+    private Long star1 = 0L;
+
+    @Column(name = "star2_count", nullable = false)
+    private Long star2 = 0L;
+
+    @Column(name = "star3_count", nullable = false)
+    private Long star3 = 0L;
+
+    @Column(name = "star4_count", nullable = false)
+    private Long star4 = 0L;
+
+    @Column(name = "star5_count", nullable = false)
+    private Long star5 = 0L;
+
+    public RatingHistogram(Long productId, long[] counts) {
+        this.productId = productId;
+        setCounts(counts);
+    }
+
+    // 별점 순 개수 배열 (index 0 = 1점)
+    public long[] getCounts() {
+        return new long[]{star1, star2, star3, star4, star5};
+    }
+
+    public void setCounts(long[] counts) {
+        star1 = counts[0];
+        star2 = counts[1];
+        star3 = counts[2];
+        star4 = counts[3];
+        star5 = counts[4];
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.view_shoppingmall.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 Refresh 토큰 (jti 기준, 로그인 한 번 = 토큰 패밀리 하나)
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        // 패밀리 폐기 (family_id = ?)
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        // 사용자 전체 폐기 (user_id = ? AND expires_at > ?)
+        @Index(name = "idx_refresh_tokens_user_id_expires", columnList = "user_id, expires_at"),
+        // 만료 토큰 정리
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    public enum Status {
+        ACTIVE, ROTATED, REVOKED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.ACTIVE;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
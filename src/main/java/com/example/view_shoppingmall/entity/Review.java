@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 상품별 리뷰 커서 페이지네이션 (product_id = ? ORDER BY created_at DESC, id DESC)
+        @Index(name = "idx_reviews_product_created_id", columnList = "product_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,100 @@
+package com.example.view_shoppingmall.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 리뷰 접수 (아웃박스)
+ * - 접수 시 이 행만 기록하고 응답하며, 리뷰 작성은 ReviewSubmissionService 의 writer 가 묶어서 처리한다.
+ * - PENDING 상태로 남은 행은 재시작 후에도 다시 처리되므로 접수된 리뷰가 유실되지 않는다.
+ */
+@Entity
+@Table(name = "review_submissions", uniqueConstraints = {
+        // 같은 사용자의 같은 Idempotency-Key 는 한 번만 접수
+        @UniqueConstraint(name = "uk_review_submissions_user_key", columnNames = {"user_id", "idempotency_key"})
+}, indexes = {
+        // 미처리 접수 복구 (status = 'PENDING' AND created_at < ?), 처리 완료 정리
+        @Index(name = "idx_review_submissions_status_created", columnList = "status, created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSubmission {
+
+    public enum Status {
+        PENDING, COMPLETED, REJECTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer rating;
+
+    @Column(length = 1000)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    private Long reviewId;          // 작성된 리뷰 ID (COMPLETED)
+
+    private String error;           // 거절 사유 (REJECTED)
+
+    @Column(nullable = false)
+    private int attempts;           // 처리 실패 횟수
+
+    @Column(name = "last_error")
+    private String lastError;       // 마지막 처리 실패 원인 (운영 확인용, 응답에는 포함하지 않음)
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public void complete(Long reviewId) {
+        this.status = Status.COMPLETED;
+        this.reviewId = reviewId;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 실패 기록 - 최대 시도 횟수에 도달하면 거절하고 true 를 반환한다.
+     * (매번 실패하는 접수가 복구 작업으로 끝없이 다시 큐에 들어가지 않도록)
+     */
+    public boolean fail(String cause, int maxAttempts) {
+        this.attempts++;
+        this.lastError = cause;
+        if (attempts >= maxAttempts) {
+            reject("리뷰를 처리하지 못했습니다. 잠시 후 다시 작성해주세요.");
+            return true;
+        }
+        return false;
+    }
+
+    public void reject(String error) {
+        this.status = Status.REJECTED;
+        this.error = error;
+        this.processedAt = LocalDateTime.now();
+    }
+}
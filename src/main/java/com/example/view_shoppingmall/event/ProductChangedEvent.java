@@ -0,0 +1,24 @@
+package com.example.view_shoppingmall.event;
+
+import com.example.view_shoppingmall.dto.ProductDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 변경 이벤트
+ * - ProductService 에서 발행하고, 커밋 이후(AFTER_COMMIT) 검색 색인/캐시 등이 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        STOCK_CHANGED   // 재고만 변경 (product 는 null, previousCategory 에 현재 카테고리)
+    }
+
+    private final Type type;
+    private final Long productId;
+    private final ProductDTO product;       // 변경 후 상태 (삭제/재고 변경 시 null)
+    private final String previousCategory;  // 변경 전 카테고리 (생성 시 null)
+}
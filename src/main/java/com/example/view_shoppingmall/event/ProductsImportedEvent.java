@@ -0,0 +1,16 @@
+package com.example.view_shoppingmall.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 대량 등록 완료 이벤트
+ * - 대량 등록은 JDBC 배치로 처리되어 상품별 ProductChangedEvent 가 발행되지 않으므로,
+ *   등록 전 최대 ID 이후의 상품을 다시 읽어 색인/캐시를 맞추도록 알린다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductsImportedEvent {
+    private final Long afterId;     // 이 ID 보다 큰 상품이 새로 등록됨
+    private final long count;
+}
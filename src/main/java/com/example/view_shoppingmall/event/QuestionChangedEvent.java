@@ -0,0 +1,24 @@
+package com.example.view_shoppingmall.event;
+
+import com.example.view_shoppingmall.dto.AnswerDTO;
+import com.example.view_shoppingmall.dto.QuestionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Q&A 질문 변경 이벤트
+ * - QnaService 에서 발행하고, 커밋 이후(AFTER_COMMIT) 질문 검색 색인 등이 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionChangedEvent {
+
+    public enum Type {
+        CREATED, DELETED, ANSWERED
+    }
+
+    private final Type type;
+    private final Long questionId;
+    private final QuestionDTO question;   // 작성된 질문 (CREATED)
+    private final AnswerDTO answer;       // 등록된 답변 (ANSWERED)
+}
@@ -0,0 +1,24 @@
+package com.example.view_shoppingmall.event;
+
+import com.example.view_shoppingmall.dto.ReviewDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 변경 이벤트
+ * - ReviewService/ReviewSubmissionService 에서 발행하고, 커밋 이후(AFTER_COMMIT) 별점 분포/리뷰 검색 색인 등이 구독한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    private final Type type;
+    private final Long reviewId;
+    private final Long productId;
+    private final int rating;
+    private final ReviewDTO review;     // 작성된 리뷰 (삭제 시 null)
+}
@@ -0,0 +1,18 @@
+package com.example.view_shoppingmall.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 토큰 패밀리 폐기 이벤트
+ * - 폐기가 커밋된 뒤에만 메모리 폐기 목록에 반영하도록 트랜잭션 안에서 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenFamiliesRevokedEvent {
+    private final List<String> familyIds;
+    private final LocalDateTime until;     // 이 시각 이후에는 패밀리의 모든 토큰이 만료됨
+}
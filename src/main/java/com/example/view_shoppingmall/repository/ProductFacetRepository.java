@@ -0,0 +1,26 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 패싯 집계 (ProductRepository 커스텀 구현)
+ */
+public interface ProductFacetRepository {
+
+    // 카테고리별 상품 수
+    Map<String, Long> countByCategory(Specification<Product> filter);
+
+    /**
+     * 가격 구간별 상품 수와 재고 있는 상품 수를 한 번의 집계 쿼리로 계산
+     * - 가격 구간 집계에는 stockFilter 를, 재고 집계에는 priceFilter 를 추가로 적용한다.
+     * - 반환값: [구간0, 구간1, ..., 구간N, 재고 있는 상품 수]
+     */
+    List<Long> countByPriceBucketsAndStock(Specification<Product> filter,
+                                           Specification<Product> priceFilter,
+                                           Specification<Product> stockFilter,
+                                           List<Integer> bucketBounds);
+}
@@ -0,0 +1,106 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<String, Long> countByCategory(Specification<Product> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+
+        Path<String> category = root.get("category");
+        query.multiselect(category, cb.count(root));
+        Predicate predicate = toPredicate(filter, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(category);
+        query.orderBy(cb.asc(category));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            String name = tuple.get(0, String.class);
+            counts.put(name == null ? "" : name, tuple.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> countByPriceBucketsAndStock(Specification<Product> filter,
+                                                  Specification<Product> priceFilter,
+                                                  Specification<Product> stockFilter,
+                                                  List<Integer> bucketBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+
+        Path<Integer> price = root.get("price");
+        Predicate stockPredicate = toPredicate(stockFilter, root, query, cb);
+        Predicate pricePredicate = toPredicate(priceFilter, root, query, cb);
+
+        // 구간 경계 [b0, b1, ..., bn] -> (-, b0), [b0, b1), ..., [bn, +)
+        List<Selection<?>> selections = new ArrayList<>();
+        for (int i = 0; i <= bucketBounds.size(); i++) {
+            List<Predicate> conditions = new ArrayList<>();
+            if (i > 0) {
+                conditions.add(cb.greaterThanOrEqualTo(price, bucketBounds.get(i - 1)));
+            }
+            if (i < bucketBounds.size()) {
+                conditions.add(cb.lessThan(price, bucketBounds.get(i)));
+            }
+            if (stockPredicate != null) {
+                conditions.add(stockPredicate);
+            }
+            selections.add(countWhen(cb, conditions));
+        }
+
+        List<Predicate> stockConditions = new ArrayList<>();
+        stockConditions.add(cb.greaterThan(root.get("stock"), 0));
+        if (pricePredicate != null) {
+            stockConditions.add(pricePredicate);
+        }
+        selections.add(countWhen(cb, stockConditions));
+
+        query.multiselect(selections);
+        Predicate predicate = toPredicate(filter, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        List<Long> counts = new ArrayList<>(selections.size());
+        for (int i = 0; i < selections.size(); i++) {
+            Number value = (Number) tuple.get(i);
+            counts.add(value == null ? 0L : value.longValue());
+        }
+        return counts;
+    }
+
+    // SUM(CASE WHEN 조건 THEN 1 ELSE 0 END)
+    private Expression<Long> countWhen(CriteriaBuilder cb, List<Predicate> conditions) {
+        Expression<Long> flag = cb.<Long>selectCase()
+                .when(cb.and(conditions.toArray(new Predicate[0])), 1L)
+                .otherwise(0L);
+        return cb.sum(flag);
+    }
+
+    private Predicate toPredicate(Specification<Product> spec, Root<Product> root,
+                                  CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.view_shoppingmall.repository;
 
+import com.example.view_shoppingmall.dto.ProductListVersion;
+import com.example.view_shoppingmall.dto.RatingSummaryDTO;
 import com.example.view_shoppingmall.entity.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>,
+        JpaSpecificationExecutor<Product>, ProductFacetRepository {
 
     // 카테고리별 상품 조회
     List<Product> findByCategory(String category);
@@ -20,4 +31,92 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 재고가 있는 상품만 조회
     List<Product> findByStockGreaterThan(Integer stock);
+
+    // 커서 페이지네이션 - 전체 상품 (최신순, id 기준)
+    List<Product> findAllByOrderByIdDesc(Limit limit);
+
+    List<Product> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // 커서 페이지네이션 - 카테고리별 상품
+    List<Product> findByCategoryOrderByIdDesc(String category, Limit limit);
+
+    List<Product> findByCategoryAndIdLessThanOrderByIdDesc(String category, Long id, Limit limit);
+
+    // 커서 페이지네이션 - 상품명 검색
+    List<Product> findByNameContainingOrderByIdDesc(String name, Limit limit);
+
+    List<Product> findByNameContainingAndIdLessThanOrderByIdDesc(String name, Long id, Limit limit);
+
+    // ID 순 청크 조회 (검색 색인 재구성용)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 전체 상품 목록 버전 (조건부 GET 용)
+    @Query("SELECT new com.example.view_shoppingmall.dto.ProductListVersion(COUNT(p), MAX(p.updatedAt), MAX(p.id)) "
+            + "FROM Product p")
+    ProductListVersion findListVersion();
+
+    // 카테고리별 상품 목록 버전 (조건부 GET 용)
+    @Query("SELECT new com.example.view_shoppingmall.dto.ProductListVersion(COUNT(p), MAX(p.updatedAt), MAX(p.id)) "
+            + "FROM Product p WHERE p.category = :category")
+    ProductListVersion findListVersionByCategory(@Param("category") String category);
+
+    // 특정 시점 이후 변경된 상품 조회 (검색 스냅샷 이후 변경분 반영용)
+    List<Product> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // 재고 조건부 차감 (재고가 충분할 때만 - 동시 구매 시 초과 판매 방지)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.updatedAt = :now "
+            + "WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 재고 복구 (예약 해제/만료)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.updatedAt = :now WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 재고 증감 조정 (관리자 입고/실사 보정 - 결과 재고가 음수가 되지 않을 때만)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta, p.updatedAt = :now "
+            + "WHERE p.id = :id AND p.stock + :delta >= 0")
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 재고만 조회
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    // 카테고리만 조회 (캐시 무효화용)
+    @Query("SELECT p.category FROM Product p WHERE p.id = :id")
+    Optional<String> findCategoryById(@Param("id") Long id);
+
+    // 별점 합계/개수 증감 (리뷰 작성: +별점, +1 / 삭제: -별점, -1)
+    @Modifying
+    @Query("UPDATE Product p SET p.ratingSum = p.ratingSum + :ratingDelta, p.ratingCount = p.ratingCount + :countDelta "
+            + "WHERE p.id = :id")
+    int applyRating(@Param("id") Long id, @Param("ratingDelta") long ratingDelta, @Param("countDelta") long countDelta);
+
+    // 존재하는 상품 ID 만 조회
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 별점 요약 조회 (PK 조회 한 번)
+    @Query("SELECT new com.example.view_shoppingmall.dto.RatingSummaryDTO(p.id, p.ratingSum, p.ratingCount) "
+            + "FROM Product p WHERE p.id = :id")
+    Optional<RatingSummaryDTO> findRatingSummary(@Param("id") Long id);
+
+    // 여러 상품의 별점 요약을 한 번에 조회 (상품 목록/그리드용)
+    @Query("SELECT new com.example.view_shoppingmall.dto.RatingSummaryDTO(p.id, p.ratingSum, p.ratingCount) "
+            + "FROM Product p WHERE p.id IN :ids")
+    List<RatingSummaryDTO> findRatingSummaries(@Param("ids") Collection<Long> ids);
+
+    // 별점 합계/개수 청크 조회 (재계산 작업용) - [id, ratingSum, ratingCount]
+    @Query("SELECT p.id, p.ratingSum, p.ratingCount FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findRatingTotalsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 별점 합계/개수 보정 (읽은 값이 그대로일 때만 - 그 사이 작성/삭제된 리뷰는 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE Product p SET p.ratingSum = :ratingSum, p.ratingCount = :ratingCount "
+            + "WHERE p.id = :id AND p.ratingSum = :expectedSum AND p.ratingCount = :expectedCount")
+    int correctRating(@Param("id") Long id,
+                      @Param("ratingSum") long ratingSum, @Param("ratingCount") long ratingCount,
+                      @Param("expectedSum") long expectedSum, @Param("expectedCount") long expectedCount);
 }
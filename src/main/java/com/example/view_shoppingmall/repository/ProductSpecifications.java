@@ -0,0 +1,74 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * 상품 필터 조건 (조합 가능한 Specification)
+ * - 조건 값이 없으면 null 을 반환하므로 Specification.where/and 로 그대로 조합할 수 있다.
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    // 카테고리 일치
+    public static Specification<Product> categoryEquals(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    // 가격 범위 (양 끝 포함)
+    public static Specification<Product> priceBetween(Integer minPrice, Integer maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minPrice == null) {
+                return cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+            }
+            if (maxPrice == null) {
+                return cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+            }
+            return cb.between(root.get("price"), minPrice, maxPrice);
+        };
+    }
+
+    // 재고 있는 상품만
+    public static Specification<Product> inStock(Boolean inStock) {
+        if (!Boolean.TRUE.equals(inStock)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
+    }
+
+    // 상품 ID 목록에 포함 (검색 색인 결과)
+    public static Specification<Product> idIn(Collection<Long> ids) {
+        if (ids == null) {
+            return null;
+        }
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    // 상품명 부분 일치 (검색 색인 준비 전 대체 경로)
+    public static Specification<Product> nameContains(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword) + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, LIKE_ESCAPE);
+    }
+
+    // LIKE 와일드카드(%, _)와 이스케이프 문자 자체를 일반 문자로 취급
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -1,23 +1,95 @@
 package com.example.view_shoppingmall.repository;
 
+import com.example.view_shoppingmall.dto.QuestionDTO;
 import com.example.view_shoppingmall.entity.Question;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
-    // 사용자 ID로 질문 목록 조회
-    List<Question> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 사용자 ID로 질문 목록 조회 (최신순, 작성자명 조인 DTO)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u WHERE u.id = :userId ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuestionDTO> findDTOsByUserId(@Param("userId") Long userId);
 
-    // 페이지네이션 적용 전체 목록 조회 (최신순)
-    Page<Question> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 페이지네이션 적용 전체 목록 조회 (최신순, 작성자명 조인 DTO, 관리자 화면용 페이지 번호 모드)
+    @Query(value = "SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u ORDER BY q.createdAt DESC, q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q")
+    Page<QuestionDTO> findDTOPage(Pageable pageable);
 
-    // 제목 또는 내용으로 검색 (페이지네이션)
-    Page<Question> findByTitleContainingOrContentContainingOrderByCreatedAtDesc(
-            String title, String content, Pageable pageable);
+    // 최신순 첫 페이지 (커서 모드, count 쿼리 없음)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuestionDTO> findDTOSlice(Limit limit);
+
+    // 최신순 다음 페이지 ((createdAt, id) 커서 이후)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u "
+            + "WHERE q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id) "
+            + "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuestionDTO> findDTOSliceBefore(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    // 미답변 질문 대기열 첫 페이지 (오래된 순, 작성자명 조인 DTO)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u WHERE q.isAnswered = false "
+            + "ORDER BY q.createdAt ASC, q.id ASC")
+    List<QuestionDTO> findUnansweredDTOSlice(Limit limit);
+
+    // 미답변 질문 대기열 다음 페이지 ((createdAt, id) 커서 이후)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u WHERE q.isAnswered = false "
+            + "AND (q.createdAt > :createdAt OR (q.createdAt = :createdAt AND q.id > :id)) "
+            + "ORDER BY q.createdAt ASC, q.id ASC")
+    List<QuestionDTO> findUnansweredDTOSliceAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+
+    // 상세 조회 - 작성자, 답변, 답변 작성자를 한 번의 쿼리로 조회 (답변은 answers.question_id 로 조인)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt, "
+            + "a.id, au.id, au.username, a.content, a.createdAt) "
+            + "FROM Question q JOIN q.user u "
+            + "LEFT JOIN Answer a ON a.question = q LEFT JOIN a.user au WHERE q.id = :id")
+    Optional<QuestionDTO> findDetailById(@Param("id") Long id);
+
+    // ID 목록으로 조회 (검색 결과 페이지, 작성자명 조인 DTO)
+    @Query("SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u WHERE q.id IN :ids")
+    List<QuestionDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구성용 청크 조회 - [id, title, content, createdAt, 답변 content]
+    @Query("SELECT q.id, q.title, q.content, q.createdAt, a.content FROM Question q "
+            + "LEFT JOIN Answer a ON a.question = q WHERE q.id > :afterId ORDER BY q.id")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 제목 또는 내용으로 검색 (페이지네이션, 작성자명 조인 DTO - 검색 색인 준비 전에만 사용)
+    @Query(value = "SELECT new com.example.view_shoppingmall.dto.QuestionDTO("
+            + "q.id, u.id, u.username, q.title, q.content, q.isAnswered, q.createdAt) "
+            + "FROM Question q JOIN q.user u "
+            + "WHERE q.title LIKE CONCAT('%', :keyword, '%') OR q.content LIKE CONCAT('%', :keyword, '%') "
+            + "ORDER BY q.createdAt DESC, q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q "
+                    + "WHERE q.title LIKE CONCAT('%', :keyword, '%') OR q.content LIKE CONCAT('%', :keyword, '%')")
+    Page<QuestionDTO> searchDTOPage(@Param("keyword") String keyword, Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.RatingHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RatingHistogramRepository extends JpaRepository<RatingHistogram, Long> {
+
+    // 별점별 증감분 반영 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE RatingHistogram h SET h.star1 = h.star1 + :d1, h.star2 = h.star2 + :d2, "
+            + "h.star3 = h.star3 + :d3, h.star4 = h.star4 + :d4, h.star5 = h.star5 + :d5 "
+            + "WHERE h.productId = :productId")
+    int applyDeltas(@Param("productId") Long productId,
+                    @Param("d1") long d1, @Param("d2") long d2, @Param("d3") long d3,
+                    @Param("d4") long d4, @Param("d5") long d5);
+
+    // 새 상품의 빈 분포 행 생성 (이후 증감분은 flush 가 이 행에 반영)
+    @Modifying
+    @Query("INSERT INTO RatingHistogram (productId, star1, star2, star3, star4, star5) "
+            + "VALUES (:productId, 0L, 0L, 0L, 0L, 0L)")
+    int insertEmpty(@Param("productId") Long productId);
+
+    // 지정 ID 이후 상품 중 분포 행이 없는 상품의 빈 행 일괄 생성 (대량 등록 후)
+    @Modifying
+    @Query("INSERT INTO RatingHistogram (productId, star1, star2, star3, star4, star5) "
+            + "SELECT p.id, 0L, 0L, 0L, 0L, 0L FROM Product p WHERE p.id > :afterId "
+            + "AND NOT EXISTS (SELECT 1 FROM RatingHistogram h WHERE h.productId = p.id)")
+    int insertEmptyAfter(@Param("afterId") Long afterId);
+}
@@ -0,0 +1,54 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 토큰 ID 로 조회 (사용자 함께 조회 - 재발급 시 최신 권한 반영)
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenId = :tokenId")
+    Optional<RefreshToken> findWithUserByTokenId(@Param("tokenId") String tokenId);
+
+    // 토큰 상태 전이 (현재 상태가 from 일 때만 - 같은 토큰으로 두 번 회전 방지)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") RefreshToken.Status from,
+                   @Param("to") RefreshToken.Status to);
+
+    // 패밀리 전체 상태 변경 (폐기용)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.status = :status WHERE r.familyId = :familyId")
+    int updateStatusByFamilyId(@Param("familyId") String familyId, @Param("status") RefreshToken.Status status);
+
+    // 사용자의 만료 전 토큰 상태 변경 (전체 폐기용)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.status = :status WHERE r.user.id = :userId AND r.expiresAt > :now")
+    int updateStatusByUserId(@Param("userId") Long userId,
+                             @Param("status") RefreshToken.Status status,
+                             @Param("now") LocalDateTime now);
+
+    // 사용자의 만료 전 패밀리 ID
+    @Query("SELECT DISTINCT r.familyId FROM RefreshToken r WHERE r.user.id = :userId AND r.expiresAt > :now")
+    List<String> findFamilyIdsByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 폐기된 만료 전 패밀리 - [familyId, 마지막 만료 시각]
+    @Query("SELECT r.familyId, MAX(r.expiresAt) FROM RefreshToken r "
+            + "WHERE r.status = :status AND r.expiresAt > :now GROUP BY r.familyId")
+    List<Object[]> findFamiliesByStatus(@Param("status") RefreshToken.Status status,
+                                        @Param("now") LocalDateTime now);
+
+    // 만료된 토큰 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
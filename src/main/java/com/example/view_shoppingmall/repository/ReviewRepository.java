@@ -1,18 +1,37 @@
 package com.example.view_shoppingmall.repository;
 
+import com.example.view_shoppingmall.dto.ReviewDTO;
 import com.example.view_shoppingmall.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    // 상품별 리뷰 목록 조회 (최신순)
-    List<Review> findByProductIdOrderByCreatedAtDesc(Long productId);
+    // 상품별 리뷰 첫 페이지 (최신순, 작성자명을 같은 쿼리에서 조인해 DTO 로 조회)
+    @Query("SELECT new com.example.view_shoppingmall.dto.ReviewDTO("
+            + "r.id, r.product.id, u.id, u.username, r.rating, r.content, r.createdAt) "
+            + "FROM Review r JOIN r.user u WHERE r.product.id = :productId "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewDTO> findPageByProductId(@Param("productId") Long productId, Limit limit);
+
+    // 상품별 리뷰 다음 페이지 ((createdAt, id) 커서 이후)
+    @Query("SELECT new com.example.view_shoppingmall.dto.ReviewDTO("
+            + "r.id, r.product.id, u.id, u.username, r.rating, r.content, r.createdAt) "
+            + "FROM Review r JOIN r.user u WHERE r.product.id = :productId "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewDTO> findPageByProductIdBefore(@Param("productId") Long productId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
 
     // 상품별 평균 별점 조회
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.id = :productId")
@@ -21,6 +40,26 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 상품별 리뷰 개수 조회
     Long countByProductId(Long productId);
 
+    // 상품 ID 구간별 별점 합계/개수 (재계산 작업용) - [productId, SUM(rating), COUNT]
+    @Query("SELECT r.product.id, SUM(r.rating), COUNT(r) FROM Review r "
+            + "WHERE r.product.id BETWEEN :fromId AND :toId GROUP BY r.product.id")
+    List<Object[]> sumRatingsByProductIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 상품의 별점별 리뷰 개수 - [rating, COUNT]
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.product.id = :productId GROUP BY r.rating")
+    List<Object[]> countRatingsByProductId(@Param("productId") Long productId);
+
+    // 상품 ID 구간별 별점별 리뷰 개수 (분포 재계산용) - [productId, rating, COUNT]
+    @Query("SELECT r.product.id, r.rating, COUNT(r) FROM Review r "
+            + "WHERE r.product.id BETWEEN :fromId AND :toId GROUP BY r.product.id, r.rating")
+    List<Object[]> countRatingsByProductIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
     // 특정 사용자가 특정 상품에 리뷰를 작성했는지 확인
     boolean existsByProductIdAndUserId(Long productId, Long userId);
+
+    // 이미 작성된 (상품, 사용자) 쌍 일괄 조회 (비동기 접수 일괄 처리용) - [productId, userId]
+    @Query("SELECT r.product.id, r.user.id FROM Review r "
+            + "WHERE r.product.id IN :productIds AND r.user.id IN :userIds")
+    List<Object[]> findReviewedPairs(@Param("productIds") Collection<Long> productIds,
+                                     @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,32 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.ReviewSubmission;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReviewSubmissionRepository extends JpaRepository<ReviewSubmission, Long> {
+
+    // 같은 Idempotency-Key 로 접수된 요청 조회
+    Optional<ReviewSubmission> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 지정 시각 이전에 접수된 미처리 건 ID (재시작/큐 초과 복구용)
+    @Query("SELECT s.id FROM ReviewSubmission s WHERE s.status = :status AND s.createdAt < :before ORDER BY s.id")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") ReviewSubmission.Status status,
+                                                 @Param("before") LocalDateTime before,
+                                                 Limit limit);
+
+    // 처리 완료 후 보관 기간이 지난 접수 정리
+    @Modifying
+    @Query("DELETE FROM ReviewSubmission s WHERE s.status <> :pending AND s.createdAt < :before")
+    int deleteProcessedBefore(@Param("pending") ReviewSubmission.Status pending,
+                              @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,36 @@
+package com.example.view_shoppingmall.repository;
+
+import com.example.view_shoppingmall.entity.StockReservation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    // 예약 상태 전이 (현재 상태가 from 일 때만 - 중복 확정/해제 방지)
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") StockReservation.Status from,
+                   @Param("to") StockReservation.Status to);
+
+    // 만료 전인 예약만 상태 전이 (예약 확정용)
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to "
+            + "WHERE r.id = :id AND r.status = :from AND r.expiresAt > :now")
+    int transitionIfNotExpired(@Param("id") Long id,
+                               @Param("from") StockReservation.Status from,
+                               @Param("to") StockReservation.Status to,
+                               @Param("now") LocalDateTime now);
+
+    // 만료된 예약 조회 (정리 작업용)
+    List<StockReservation> findByStatusAndExpiresAtBeforeOrderByIdAsc(
+            StockReservation.Status status, LocalDateTime now, Limit limit);
+}
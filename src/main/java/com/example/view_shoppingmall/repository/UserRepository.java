@@ -2,8 +2,12 @@ package com.example.view_shoppingmall.repository;
 
 import com.example.view_shoppingmall.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    // 사용자 ID -> 사용자명 일괄 조회 - [id, username]
+    @Query("SELECT u.id, u.username FROM User u WHERE u.id IN :ids")
+    List<Object[]> findUsernames(@Param("ids") Collection<Long> ids);
+
+    // 이미 사용 중인 사용자명 (대량 등록 시 청크 단위 중복 확인)
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    // 이미 사용 중인 이메일 (대량 등록 시 청크 단위 중복 확인)
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
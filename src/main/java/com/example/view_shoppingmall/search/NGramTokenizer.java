@@ -0,0 +1,55 @@
+package com.example.view_shoppingmall.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자 n-gram 토크나이저
+ * - 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 음절 단위 n-gram 을 사용한다.
+ * - 색인 시에는 1~3-gram 을 모두 만들고, 검색 시에는 단어 길이에 맞는 가장 긴 n-gram 만 사용한다.
+ */
+public final class NGramTokenizer {
+
+    public static final int MAX_GRAM = 3;
+
+    private NGramTokenizer() {
+    }
+
+    // 소문자화 + 공백 정규화
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    // 색인용 n-gram (1 ~ MAX_GRAM)
+    public static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalize(text).split(" ")) {
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                addGrams(word, n, grams);
+            }
+        }
+        return grams;
+    }
+
+    // 검색용 n-gram (단어별로 가능한 가장 긴 n-gram)
+    public static Set<String> queryGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalize(text).split(" ")) {
+            addGrams(word, Math.min(word.length(), MAX_GRAM), grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String word, int n, Set<String> grams) {
+        if (n <= 0) {
+            return;
+        }
+        for (int i = 0; i + n <= word.length(); i++) {
+            grams.add(word.substring(i, i + n));
+        }
+    }
+}
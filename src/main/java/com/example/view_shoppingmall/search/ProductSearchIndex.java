@@ -0,0 +1,371 @@
+package com.example.view_shoppingmall.search;
+
+import com.example.view_shoppingmall.dto.ProductDTO;
+import com.example.view_shoppingmall.dto.ProductListVersion;
+import com.example.view_shoppingmall.entity.Product;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
+import com.example.view_shoppingmall.event.ProductsImportedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 검색용 인메모리 역색인
+ * - 상품명/카테고리/설명의 문자 n-gram -> (상품 ID -> 포함된 필드 비트) 로 색인한다.
+ * - 상품 등록/수정/삭제가 커밋되면 ProductChangedEvent 로 해당 문서만 갱신한다.
+ * - 스냅샷 파일이 설정되어 있으면 재시작 시 DB 전체 조회 대신 스냅샷 + 변경분만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // 필드 비트 및 가중치
+    private static final int FIELD_NAME = 1;
+    private static final int FIELD_CATEGORY = 2;
+    private static final int FIELD_DESCRIPTION = 4;
+    private static final int WEIGHT_NAME = 10;
+    private static final int WEIGHT_CATEGORY = 5;
+    private static final int WEIGHT_DESCRIPTION = 1;
+    private static final int WEIGHT_EXACT_NAME = 50;
+
+    private final ProductRepository productRepository;
+
+    @Value("${product.search.snapshot-path:}")
+    private String snapshotPath;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 애플리케이션 기동 후 색인 적재 (스냅샷 우선, 없으면 DB 에서 재구성)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+        ready = true;
+        log.info("상품 검색 색인 준비 완료: {}건, {}ms", size(), System.currentTimeMillis() - started);
+    }
+
+    // 종료 시 스냅샷 저장
+    @PreDestroy
+    public void close() {
+        if (ready) {
+            writeSnapshot();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 - 모든 검색 n-gram 을 포함하는 상품을 점수 내림차순(동점 시 최신 ID 우선)으로 반환
+     */
+    public List<Long> search(String keyword, int maxResults) {
+        Set<String> grams = NGramTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        String phrase = NGramTokenizer.normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 포스팅 목록부터 교집합을 구한다
+            List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<Long, Integer> list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Integer> scores = new HashMap<>();
+            for (Long id : lists.get(0).keySet()) {
+                int score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Integer> list : lists) {
+                    Integer fields = list.get(id);
+                    if (fields == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += fieldScore(fields);
+                }
+                if (matchesAll) {
+                    if (documents.get(id).name.contains(phrase)) {
+                        score += WEIGHT_EXACT_NAME;
+                    }
+                    scores.put(id, score);
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(maxResults)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 상품 변경 커밋 후 색인 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            remove(event.getProductId());
+        } else if (event.getProduct() != null) {
+            ProductDTO product = event.getProduct();
+            put(product.getId(), product.getName(), product.getCategory(), product.getDescription());
+        }
+    }
+
+    // 대량 등록 완료 후 새로 등록된 상품 색인
+    @EventListener
+    public void onProductsImported(ProductsImportedEvent event) {
+        indexAfter(event.getAfterId());
+    }
+
+    // 문서 추가/교체
+    public void put(Long id, String name, String category, String description) {
+        Document document = new Document(
+                NGramTokenizer.normalize(name),
+                NGramTokenizer.normalize(category),
+                NGramTokenizer.normalize(description));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            index(id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 삭제
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 전체를 ID 순으로 나눠 읽어 색인 재구성
+    public void rebuild() {
+        clear();
+        indexAfter(0L);
+    }
+
+    // 지정한 ID 이후 상품을 ID 순 청크로 읽어 색인
+    private void indexAfter(Long afterId) {
+        Long lastId = afterId;
+        List<Product> chunk;
+        do {
+            chunk = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_CHUNK_SIZE));
+            for (Product product : chunk) {
+                put(product.getId(), product.getName(), product.getCategory(), product.getDescription());
+                lastId = product.getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long id, Document document) {
+        addGrams(id, document.name, FIELD_NAME);
+        addGrams(id, document.category, FIELD_CATEGORY);
+        addGrams(id, document.description, FIELD_DESCRIPTION);
+    }
+
+    private void addGrams(Long id, String text, int field) {
+        for (String gram : NGramTokenizer.indexGrams(text)) {
+            postings.computeIfAbsent(gram, g -> new HashMap<>()).merge(id, field, (a, b) -> a | b);
+        }
+    }
+
+    private void unindex(Long id, Document document) {
+        Set<String> grams = new HashSet<>();
+        grams.addAll(NGramTokenizer.indexGrams(document.name));
+        grams.addAll(NGramTokenizer.indexGrams(document.category));
+        grams.addAll(NGramTokenizer.indexGrams(document.description));
+        for (String gram : grams) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private int fieldScore(int fields) {
+        int score = 0;
+        if ((fields & FIELD_NAME) != 0) {
+            score += WEIGHT_NAME;
+        }
+        if ((fields & FIELD_CATEGORY) != 0) {
+            score += WEIGHT_CATEGORY;
+        }
+        if ((fields & FIELD_DESCRIPTION) != 0) {
+            score += WEIGHT_DESCRIPTION;
+        }
+        return score;
+    }
+
+    /**
+     * 스냅샷 적재 후 스냅샷 시점 이후 변경분을 반영한다.
+     * 목록 버전(건수, 최대 ID, 최종 수정일시)이 DB 와 맞지 않으면 false 를 반환해 전체 재구성하도록 한다.
+     * - 건수: 그 사이 삭제된 상품이 색인에 남아 있는 경우
+     * - 최대 ID: 삭제와 등록이 같은 수만큼 일어나 건수만으로는 드러나지 않는 경우
+     * - 최종 수정일시: 변경분 조회에 잡히지 않은 수정이 있는 경우
+     */
+    private boolean loadSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return false;
+        }
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return false;
+            }
+            LocalDateTime snapshotAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(in.readLong()), ZoneId.systemDefault());
+            int count = in.readInt();
+
+            clear();
+            for (int i = 0; i < count; i++) {
+                put(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF());
+            }
+
+            LocalDateTime lastModified = snapshotAt;
+            for (Product product : productRepository.findByUpdatedAtAfter(snapshotAt)) {
+                put(product.getId(), product.getName(), product.getCategory(), product.getDescription());
+                if (product.getUpdatedAt() != null && product.getUpdatedAt().isAfter(lastModified)) {
+                    lastModified = product.getUpdatedAt();
+                }
+            }
+
+            if (!matches(productRepository.findListVersion(), lastModified)) {
+                log.info("상품 검색 스냅샷이 DB 와 일치하지 않아 재구성합니다.");
+                return false;
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("상품 검색 스냅샷을 읽지 못했습니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 적재된 색인이 DB 목록 버전과 일치하는지 확인
+    private boolean matches(ProductListVersion version, LocalDateTime lastModified) {
+        lock.readLock().lock();
+        try {
+            long maxId = documents.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+            long dbMaxId = version.getMaxId() == null ? 0L : version.getMaxId();
+            boolean modifiedCovered = version.getLastModified() == null
+                    || !version.getLastModified().isAfter(lastModified);
+            return documents.size() == version.getCount() && maxId == dbMaxId && modifiedCovered;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+    private void writeSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(snapshotPath);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeUTF(entry.getValue().name);
+                out.writeUTF(entry.getValue().category);
+                out.writeUTF(entry.getValue().description);
+            }
+        } catch (IOException e) {
+            log.warn("상품 검색 스냅샷을 저장하지 못했습니다: {}", e.getMessage());
+            return;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("상품 검색 스냅샷을 교체하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    // 색인된 문서 (정규화된 텍스트)
+    private record Document(String name, String category, String description) {
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.view_shoppingmall.search;
+
+import com.example.view_shoppingmall.dto.QuestionDTO;
+import com.example.view_shoppingmall.event.QuestionChangedEvent;
+import com.example.view_shoppingmall.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Q&A 질문 검색용 인메모리 역색인
+ * - 질문 제목/내용과 답변 내용의 문자 n-gram -> (질문 ID -> 포함된 필드 비트) 로 색인한다.
+ * - 질문 작성/삭제, 답변 등록이 커밋되면 QuestionChangedEvent 로 해당 질문만 갱신한다.
+ * - 힙에 상주하므로 크기를 제한한다. 질문 내용/답변은 앞 max-field-length 자까지만 색인하고(문서당 포스팅 수 상한),
+ *   문서가 max-documents 건을 넘으면 가장 오래된(ID 가 작은) 질문부터 색인에서 뺀다.
+ *   질문 수에 비례해 끝없이 커지지 않게 하려는 것으로, 빠진 질문과 잘린 뒷부분은 검색되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    // 필드 비트 및 가중치
+    private static final int FIELD_TITLE = 1;
+    private static final int FIELD_CONTENT = 2;
+    private static final int FIELD_ANSWER = 4;
+    private static final int WEIGHT_TITLE = 10;
+    private static final int WEIGHT_CONTENT = 3;
+    private static final int WEIGHT_ANSWER = 1;
+    private static final int WEIGHT_EXACT_TITLE = 50;
+
+    private final QuestionRepository questionRepository;
+
+    @Value("${qna.search.max-documents:100000}")
+    private int maxDocuments;
+
+    @Value("${qna.search.max-field-length:500}")
+    private int maxFieldLength;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // ID 순 - 상한 초과 시 가장 오래된 질문부터 제거
+    private final TreeMap<Long, Document> documents = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    // 애플리케이션 기동 후 DB 에서 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        Long lastId = 0L;
+        List<Object[]> chunk;
+        do {
+            chunk = questionRepository.findSearchRowsAfter(lastId, Limit.of(REBUILD_CHUNK_SIZE));
+            for (Object[] row : chunk) {
+                lastId = (Long) row[0];
+                put(lastId, (String) row[1], (String) row[2], (String) row[4], (LocalDateTime) row[3]);
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        ready = true;
+        log.info("질문 검색 색인 준비 완료: {}건, {}ms", size(), System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 - 모든 검색어를 포함하는 질문을 점수 내림차순(동점 시 최신 작성 우선)으로 반환
+     * - 결과는 maxResults 건에서 잘리므로, 호출 측의 전체 건수도 최대 maxResults 이다.
+     */
+    public List<Long> search(String keyword, int maxResults) {
+        Set<String> grams = NGramTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        String phrase = NGramTokenizer.normalize(keyword);
+        List<String> words = List.copyOf(new LinkedHashSet<>(Arrays.asList(phrase.split(" "))));
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 포스팅 목록부터 교집합을 구한다
+            List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Map<Long, Integer> list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            List<Scored> matches = new ArrayList<>();
+            candidates:
+            for (Long id : lists.get(0).keySet()) {
+                int score = 0;
+                for (Map<Long, Integer> list : lists) {
+                    Integer fields = list.get(id);
+                    if (fields == null) {
+                        continue candidates;
+                    }
+                    score += fieldScore(fields);
+                }
+                // n-gram 이 모두 있어도 단어가 연속으로 나오지 않을 수 있으므로 정규화된 본문으로 확인
+                Document document = documents.get(id);
+                for (String word : words) {
+                    if (!document.contains(word)) {
+                        continue candidates;
+                    }
+                }
+                if (document.title.contains(phrase)) {
+                    score += WEIGHT_EXACT_TITLE;
+                }
+                matches.add(new Scored(id, score, document.createdAt));
+            }
+
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Scored::score).reversed()
+                            .thenComparing(Scored::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                            .thenComparing(Scored::id, Comparator.reverseOrder()))
+                    .limit(maxResults)
+                    .map(Scored::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 질문 작성/삭제, 답변 등록 커밋 후 색인 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                QuestionDTO question = event.getQuestion();
+                put(question.getId(), question.getTitle(), question.getContent(), null, question.getCreatedAt());
+            }
+            case ANSWERED -> putAnswer(event.getQuestionId(), event.getAnswer().getContent());
+            case DELETED -> remove(event.getQuestionId());
+        }
+    }
+
+    // 문서 추가/교체
+    public void put(Long id, String title, String content, String answer, LocalDateTime createdAt) {
+        Document document = new Document(
+                NGramTokenizer.normalize(title),
+                truncate(NGramTokenizer.normalize(content)),
+                truncate(NGramTokenizer.normalize(answer)),
+                createdAt);
+
+        lock.writeLock().lock();
+        try {
+            replace(id, document);
+            while (documents.size() > maxDocuments) {
+                Map.Entry<Long, Document> oldest = documents.pollFirstEntry();
+                unindex(oldest.getKey(), oldest.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인된 질문에 답변 내용 추가
+    public void putAnswer(Long id, String answer) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(id);
+            if (previous != null) {
+                replace(id, new Document(previous.title, previous.content,
+                        truncate(NGramTokenizer.normalize(answer)), previous.createdAt));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 삭제
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(Long id, Document document) {
+        Document previous = documents.put(id, document);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        addGrams(id, document.title, FIELD_TITLE);
+        addGrams(id, document.content, FIELD_CONTENT);
+        addGrams(id, document.answer, FIELD_ANSWER);
+    }
+
+    private String truncate(String text) {
+        return text.length() > maxFieldLength ? text.substring(0, maxFieldLength) : text;
+    }
+
+    private void addGrams(Long id, String text, int field) {
+        for (String gram : NGramTokenizer.indexGrams(text)) {
+            postings.computeIfAbsent(gram, g -> new HashMap<>()).merge(id, field, (a, b) -> a | b);
+        }
+    }
+
+    private void unindex(Long id, Document document) {
+        Set<String> grams = new HashSet<>();
+        grams.addAll(NGramTokenizer.indexGrams(document.title));
+        grams.addAll(NGramTokenizer.indexGrams(document.content));
+        grams.addAll(NGramTokenizer.indexGrams(document.answer));
+        for (String gram : grams) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private int fieldScore(int fields) {
+        int score = 0;
+        if ((fields & FIELD_TITLE) != 0) {
+            score += WEIGHT_TITLE;
+        }
+        if ((fields & FIELD_CONTENT) != 0) {
+            score += WEIGHT_CONTENT;
+        }
+        if ((fields & FIELD_ANSWER) != 0) {
+            score += WEIGHT_ANSWER;
+        }
+        return score;
+    }
+
+    // 색인된 문서 (정규화된 텍스트 + 최신순 정렬용 작성 시각)
+    private record Document(String title, String content, String answer, LocalDateTime createdAt) {
+
+        boolean contains(String word) {
+            return title.contains(word) || content.contains(word) || answer.contains(word);
+        }
+    }
+
+    private record Scored(Long id, int score, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.view_shoppingmall.search;
+
+import com.example.view_shoppingmall.dto.ReviewDTO;
+import com.example.view_shoppingmall.dto.ReviewSearchHitDTO;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
+import com.example.view_shoppingmall.event.ReviewChangedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.ReviewRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품별 리뷰 본문 역색인
+ * - 리뷰 검색이 들어온 상품만 리뷰 본문 n-gram 색인을 만들어 두고, 최근에 검색되지 않은 상품은 캐시에서 내보낸다.
+ * - 캐시 크기는 상품 수가 아니라 포스팅(n-gram, 리뷰) 항목 수로 제한한다. 리뷰가 많은 상품 몇 개만으로도
+ *   메모리를 크게 차지할 수 있기 때문이다.
+ * - 상품 하나의 색인도 max-postings-per-product 를 넘지 않도록 최신 리뷰부터 채우고 넘치면 오래된 리뷰를 뺀다.
+ *   (전체 상한보다 큰 색인은 캐시에 들어가자마자 제거되어 검색마다 다시 만들어지므로) 빠진 리뷰는 검색되지 않는다.
+ * - 색인이 올라와 있는 상품은 리뷰 작성/삭제 커밋 시 ReviewChangedEvent 로 해당 리뷰만 갱신한다.
+ * - 검색 결과에는 리뷰 DTO 와 본문 내 검색어 위치를 함께 담아 DB 조회 없이 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+
+    @Value("${review.search.maximum-postings:1000000}")
+    private long maximumPostings;
+
+    @Value("${review.search.max-postings-per-product:100000}")
+    private int maxPostingsPerProduct;
+
+    @Value("${review.search.expire-after-access:30m}")
+    private Duration expireAfterAccess;
+
+    private Cache<Long, ProductReviews> indexes;
+
+    @PostConstruct
+    public void init() {
+        // 리뷰가 없는 상품 색인도 1 로 세어 무게 0 인 항목이 쌓이지 않게 한다
+        indexes = Caffeine.newBuilder()
+                .maximumWeight(maximumPostings)
+                .<Long, ProductReviews>weigher((productId, index) -> Math.max(1, index.postingCount))
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * 상품 리뷰 검색 - 모든 검색어를 포함하는 리뷰를 검색어 등장 횟수 내림차순(동점 시 최신순)으로 반환
+     * - 없는 상품 ID 로는 색인을 만들지 않는다 (임의 ID 요청으로 캐시가 채워지지 않도록).
+     */
+    public List<ReviewSearchHitDTO> search(Long productId, String keyword, int maxResults) {
+        List<String> words = queryWords(keyword);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        ProductReviews index = indexes.getIfPresent(productId);
+        if (index == null) {
+            if (!productRepository.existsById(productId)) {
+                return List.of();
+            }
+            index = indexes.get(productId, this::load);
+        }
+        return index.search(words, maxResults);
+    }
+
+    /**
+     * 리뷰 작성/삭제 커밋 후 (색인이 올라와 있는 상품만) 갱신
+     * - 색인을 만드는 중이면 완료될 때까지 기다렸다가 반영된다 (이미 포함된 리뷰면 교체).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        indexes.asMap().computeIfPresent(event.getProductId(), (id, index) -> {
+            if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+                index.remove(event.getReviewId());
+            } else if (event.getReview() != null) {
+                index.put(event.getReview());
+            }
+            return index;
+        });
+    }
+
+    // 상품 삭제 커밋 후 색인 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            indexes.invalidate(event.getProductId());
+        }
+    }
+
+    // 상품 리뷰를 (createdAt, id) 내림차순 청크로 읽어 색인 생성 (상품별 상한에 도달하면 더 오래된 리뷰는 읽지 않음)
+    private ProductReviews load(Long productId) {
+        // 상품 하나가 캐시 전체 상한을 넘으면 곧바로 제거되어 매번 다시 만들게 되므로 전체 상한 안으로 맞춘다
+        ProductReviews index = new ProductReviews((int) Math.min(maxPostingsPerProduct, maximumPostings));
+        List<ReviewDTO> chunk = reviewRepository.findPageByProductId(productId, Limit.of(LOAD_CHUNK_SIZE));
+        while (!chunk.isEmpty()) {
+            for (ReviewDTO review : chunk) {
+                if (index.isFull()) {
+                    return index;
+                }
+                index.put(review);
+            }
+            if (chunk.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            ReviewDTO last = chunk.get(chunk.size() - 1);
+            chunk = reviewRepository.findPageByProductIdBefore(
+                    productId, last.getCreatedAt(), last.getId(), Limit.of(LOAD_CHUNK_SIZE));
+        }
+        return index;
+    }
+
+    // 정규화한 검색어를 공백 기준 단어로 분리 (중복 제거)
+    private List<String> queryWords(String keyword) {
+        String normalized = NGramTokenizer.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return List.copyOf(new LinkedHashSet<>(Arrays.asList(normalized.split(" "))));
+    }
+
+    /**
+     * 상품 하나의 리뷰 색인 (n-gram -> 리뷰 ID)
+     */
+    private static class ProductReviews {
+
+        private final int maxPostings;
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        // ID 순 - 상한 초과 시 가장 오래된 리뷰부터 제거
+        private final TreeMap<Long, Document> documents = new TreeMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        // 포스팅 항목 수 (캐시 무게) - 갱신은 쓰기 잠금 안에서만 한다
+        private volatile int postingCount;
+
+        ProductReviews(int maxPostings) {
+            this.maxPostings = maxPostings;
+        }
+
+        boolean isFull() {
+            return postingCount >= maxPostings;
+        }
+
+        void put(ReviewDTO review) {
+            Document document = new Document(review, NGramTokenizer.normalize(review.getContent()));
+            lock.writeLock().lock();
+            try {
+                Document previous = documents.put(review.getId(), document);
+                if (previous != null) {
+                    unindex(review.getId(), previous);
+                }
+                for (String gram : NGramTokenizer.indexGrams(document.text)) {
+                    if (postings.computeIfAbsent(gram, g -> new HashSet<>()).add(review.getId())) {
+                        postingCount++;
+                    }
+                }
+                // 새 리뷰가 들어와 넘치면 오래된 리뷰부터 뺀다 (방금 넣은 리뷰 하나만 남아도 그대로 둔다)
+                while (postingCount > maxPostings && documents.size() > 1) {
+                    Map.Entry<Long, Document> oldest = documents.pollFirstEntry();
+                    unindex(oldest.getKey(), oldest.getValue());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long reviewId) {
+            lock.writeLock().lock();
+            try {
+                Document previous = documents.remove(reviewId);
+                if (previous != null) {
+                    unindex(reviewId, previous);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<ReviewSearchHitDTO> search(List<String> words, int maxResults) {
+            Set<String> grams = new LinkedHashSet<>();
+            for (String word : words) {
+                grams.addAll(NGramTokenizer.queryGrams(word));
+            }
+
+            List<Scored> matches = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                // 가장 짧은 포스팅 목록부터 교집합을 구한다
+                List<Set<Long>> lists = new ArrayList<>(grams.size());
+                for (String gram : grams) {
+                    Set<Long> list = postings.get(gram);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+                lists.sort(Comparator.comparingInt(Set::size));
+
+                candidates:
+                for (Long id : lists.get(0)) {
+                    for (int i = 1; i < lists.size(); i++) {
+                        if (!lists.get(i).contains(id)) {
+                            continue candidates;
+                        }
+                    }
+                    // n-gram 이 모두 있어도 단어가 연속으로 나오지 않을 수 있으므로 본문으로 확인
+                    Document document = documents.get(id);
+                    int occurrences = 0;
+                    for (String word : words) {
+                        int count = countOccurrences(document.text, word);
+                        if (count == 0) {
+                            continue candidates;
+                        }
+                        occurrences += count;
+                    }
+                    matches.add(new Scored(document, occurrences));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Scored::occurrences).reversed()
+                            .thenComparing(scored -> scored.document.review.getCreatedAt(), Comparator.reverseOrder())
+                            .thenComparing(scored -> scored.document.review.getId(), Comparator.reverseOrder()))
+                    .limit(maxResults)
+                    .map(scored -> new ReviewSearchHitDTO(scored.document.review,
+                            highlights(scored.document.review.getContent(), words)))
+                    .toList();
+        }
+
+        private void unindex(Long reviewId, Document document) {
+            for (String gram : NGramTokenizer.indexGrams(document.text)) {
+                Set<Long> list = postings.get(gram);
+                if (list != null) {
+                    if (list.remove(reviewId)) {
+                        postingCount--;
+                    }
+                    if (list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private static int countOccurrences(String text, String word) {
+            int count = 0;
+            for (int from = text.indexOf(word); from >= 0; from = text.indexOf(word, from + 1)) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * 원문 기준 검색어 위치 [시작, 끝) - 공백 정규화 전 원문에서 대소문자만 무시하고 찾는다.
+         */
+        private static List<int[]> highlights(String content, List<String> words) {
+            if (content == null) {
+                return List.of();
+            }
+            String lower = content.toLowerCase(Locale.ROOT);
+            if (lower.length() != content.length()) {
+                return List.of();
+            }
+            List<int[]> ranges = new ArrayList<>();
+            for (String word : words) {
+                for (int from = lower.indexOf(word); from >= 0; from = lower.indexOf(word, from + 1)) {
+                    ranges.add(new int[]{from, from + word.length()});
+                }
+            }
+            ranges.sort(Comparator.comparingInt(range -> range[0]));
+
+            List<int[]> merged = new ArrayList<>();
+            for (int[] range : ranges) {
+                int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && range[0] <= last[1]) {
+                    last[1] = Math.max(last[1], range[1]);
+                } else {
+                    merged.add(range);
+                }
+            }
+            return merged;
+        }
+    }
+
+    // 색인된 리뷰 (응답용 DTO + 정규화된 본문)
+    private record Document(ReviewDTO review, String text) {
+    }
+
+    private record Scored(Document document, int occurrences) {
+    }
+}
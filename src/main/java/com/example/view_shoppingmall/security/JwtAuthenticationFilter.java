@@ -1,5 +1,6 @@
 package com.example.view_shoppingmall.security;
 
+import com.example.view_shoppingmall.service.RefreshTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,11 +31,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            VerifiedToken token = tokenProvider.verify(jwt);
+
+            // 로그아웃 등으로 폐기된 패밀리의 토큰은 거절 (메모리 조회)
+            if (token != null && token.isAccessToken() && !refreshTokenService.isRevoked(token.getFamilyId())) {
+                // 서명된 클레임으로 인증 주체를 만들고, 클레임이 없는 이전 형식 토큰만 DB 에서 조회
+                UserDetails userDetails = token.toUser();
+                if (userDetails == null) {
+                    userDetails = userDetailsService.loadUserByUsername(token.getUsername());
+                }
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,20 +1,32 @@
 package com.example.view_shoppingmall.security;
 
+import com.example.view_shoppingmall.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_TYPE = "type";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_FAMILY_ID = "fam";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -24,98 +36,124 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpirationMs;
 
+    @Value("${jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheMaximumSize;
+
     private Key key;
 
+    // 서명 키가 고정되어 있으므로 파서는 한 번만 만들어 공유한다 (불변, 스레드 안전)
+    private JwtParser parser;
+
+    // 최근 검증한 토큰 (key: 토큰 SHA-256 다이제스트, 토큰 만료 시각에 맞춰 제거)
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, token.getExpiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(digest, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    // Access Token 생성
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userDetails.getUsername());
-    }
-
-    // Username으로 Access Token 생성
-    public String generateTokenFromUsername(String username) {
+    // 사용자로 Access Token 생성 (사용자 ID/권한을 클레임에 담아 요청마다 DB 를 조회하지 않도록 한다)
+    public String generateAccessToken(User user, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(user.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .claim("type", "access")
+                .claim(CLAIM_TYPE, "access")
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_FAMILY_ID, familyId)
                 .signWith(key)
                 .compact();
     }
 
-    // Refresh Token 생성
-    public String generateRefreshToken(String username) {
+    // Refresh Token 생성 (토큰 ID/패밀리 ID 는 RefreshTokenService 가 발급 기록과 함께 만든다)
+    public String generateRefreshToken(String username, String tokenId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpirationMs);
 
         return Jwts.builder()
+                .setId(tokenId)
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .claim("type", "refresh")
+                .claim(CLAIM_TYPE, "refresh")
+                .claim(CLAIM_FAMILY_ID, familyId)
                 .signWith(key)
                 .compact();
     }
 
-    // 토큰에서 사용자명 추출
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
-    }
-
-    // 토큰 타입 확인
-    public String getTokenType(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.get("type", String.class);
-    }
+    /**
+     * 토큰 검증 (서명/만료를 한 번만 확인하고 클레임을 반환, 유효하지 않으면 null)
+     * - 최근 검증한 같은 토큰은 캐시에서 바로 반환한다. 캐시 항목은 토큰 만료 시각에 제거된다.
+     */
+    public VerifiedToken verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
 
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
         }
-    }
 
-    // Refresh Token 유효성 검증
-    public boolean validateRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return "refresh".equals(claims.get("type", String.class));
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get(CLAIM_TYPE, String.class),
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.getId(),
+                    claims.get(CLAIM_FAMILY_ID, String.class),
+                    claims.getExpiration().getTime());
+            verifiedTokens.put(digest, verified);
+            return verified;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
     public long getRefreshExpirationMs() {
         return refreshExpirationMs;
     }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 캐시 키로 사용
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
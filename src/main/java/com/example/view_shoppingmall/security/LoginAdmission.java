@@ -0,0 +1,155 @@
+package com.example.view_shoppingmall.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 요청 수용 제어
+ * - 비밀번호 검증(BCrypt)은 요청 스레드가 아닌 크기가 제한된 전용 풀에서 실행하고,
+ *   대기열이 가득 차면 바로 거절해 로그인 폭주가 다른 API 의 요청 스레드를 점유하지 않도록 한다.
+ * - IP 별, (사용자명, IP) 별 토큰 버킷으로 시도 횟수를 제한한다.
+ *   사용자명 버킷을 IP 와 묶어 두므로 다른 곳에서 틀린 비밀번호를 반복해도 본인 로그인은 막히지 않는다.
+ * - IP 를 바꿔 가며 한 계정을 노리는 시도는 사용자명만으로 묶은 느슨한 버킷으로 늦춘다.
+ *   계정을 잠그지 않고 토큰이 계속 채워지므로 재시도 대기만 생긴다.
+ */
+@Component
+public class LoginAdmission {
+
+    @Value("${auth.login.executor.threads:4}")
+    private int threads;
+
+    @Value("${auth.login.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${auth.login.ip-limit.capacity:20}")
+    private long ipLimitCapacity;
+
+    @Value("${auth.login.ip-limit.period:1m}")
+    private Duration ipLimitPeriod;
+
+    @Value("${auth.login.username-limit.capacity:5}")
+    private long usernameLimitCapacity;
+
+    @Value("${auth.login.username-limit.period:1m}")
+    private Duration usernameLimitPeriod;
+
+    @Value("${auth.login.account-limit.capacity:30}")
+    private long accountLimitCapacity;
+
+    @Value("${auth.login.account-limit.period:10m}")
+    private Duration accountLimitPeriod;
+
+    @Value("${auth.login.throttle.maximum-keys:100000}")
+    private long maximumKeys;
+
+    private ThreadPoolExecutor executor;
+    private TokenBucketRegistry ipBuckets;
+    private TokenBucketRegistry usernameBuckets;
+    private TokenBucketRegistry accountBuckets;
+
+    // 지표
+    private final LongAdder throttledCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder verifyCount = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAccumulator maxVerifyNanos = new LongAccumulator(Long::max, 0);
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ipBuckets = new TokenBucketRegistry(ipLimitCapacity, ipLimitPeriod, maximumKeys);
+        usernameBuckets = new TokenBucketRegistry(usernameLimitCapacity, usernameLimitPeriod, maximumKeys);
+        accountBuckets = new TokenBucketRegistry(accountLimitCapacity, accountLimitPeriod, maximumKeys);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * IP, (사용자명, IP), 사용자명 시도 횟수 확인 - 허용되면 0, 제한되면 재시도까지 남은 초를 반환
+     */
+    public long checkThrottle(String clientIp, String username) {
+        TokenBucket.Probe ipProbe = ipBuckets.tryConsume(clientIp);
+        if (!ipProbe.allowed()) {
+            throttledCount.increment();
+            return ipProbe.retryAfterSeconds();
+        }
+        if (username != null) {
+            String account = username.toLowerCase();
+            TokenBucket.Probe usernameProbe = usernameBuckets.tryConsume(account + "|" + clientIp);
+            if (!usernameProbe.allowed()) {
+                throttledCount.increment();
+                return usernameProbe.retryAfterSeconds();
+            }
+            TokenBucket.Probe accountProbe = accountBuckets.tryConsume(account);
+            if (!accountProbe.allowed()) {
+                throttledCount.increment();
+                return accountProbe.retryAfterSeconds();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 비밀번호 검증 작업을 전용 풀에 제출
+     * - 대기열이 가득 차면 RejectedExecutionException 이 발생한다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> verification) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long started = System.nanoTime();
+                try {
+                    return verification.get();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    verifyCount.increment();
+                    verifyNanos.add(elapsed);
+                    maxVerifyNanos.accumulate(elapsed);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw e;
+        }
+    }
+
+    // 현재 지표 (대기열 길이, 처리 중 작업 수, 거절/제한 건수, 검증 시간)
+    public Map<String, Object> getStats() {
+        long count = verifyCount.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads);
+        stats.put("activeCount", executor.getActiveCount());
+        stats.put("queueSize", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("rejectedCount", rejectedCount.sum());
+        stats.put("throttledCount", throttledCount.sum());
+        stats.put("verifyCount", count);
+        stats.put("averageVerifyMillis", count == 0 ? 0.0 : verifyNanos.sum() / (double) count / 1_000_000);
+        stats.put("maxVerifyMillis", maxVerifyNanos.get() / 1_000_000.0);
+        stats.put("trackedIps", ipBuckets.size());
+        stats.put("trackedUsernameIps", usernameBuckets.size());
+        stats.put("trackedUsernames", accountBuckets.size());
+        return stats;
+    }
+}
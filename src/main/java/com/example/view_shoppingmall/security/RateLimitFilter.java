@@ -0,0 +1,110 @@
+package com.example.view_shoppingmall.security;
+
+import com.example.view_shoppingmall.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 요청 속도 제한
+ * - JWT 인증 이후에 실행되어 로그인 사용자는 사용자 ID, 그 외에는 클라이언트 IP 별로 제한한다.
+ * - 키별 버킷은 잠금 없이 CAS 로 갱신하므로 요청이 몰려도 필터 자체가 경합 지점이 되지 않는다.
+ * - RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset / RateLimit-Policy 헤더를 붙이고,
+ *   초과 시 429 와 Retry-After 를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private List<Limiter> limiters;
+
+    @PostConstruct
+    public void init() {
+        limiters = properties.getPolicies().stream()
+                .map(policy -> new Limiter(policy,
+                        new TokenBucketRegistry(policy.getCapacity(), policy.getPeriod(), properties.getMaximumKeys())))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Limiter limiter = properties.isEnabled() ? findLimiter(request) : null;
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenBucket.Probe probe = limiter.buckets().tryConsume(clientKey(request));
+        RateLimitProperties.Policy policy = limiter.policy();
+        response.setHeader("RateLimit-Policy", policy.getCapacity() + ";w=" + policy.getPeriod().toSeconds());
+        response.setHeader("RateLimit-Limit", String.valueOf(policy.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(probe.resetSeconds()));
+
+        if (!probe.allowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(probe.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(),
+                    Map.of("error", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 요청과 일치하는 첫 번째 정책 (CORS 사전 요청은 제한하지 않음)
+    private Limiter findLimiter(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Limiter limiter : limiters) {
+            RateLimitProperties.Policy policy = limiter.policy();
+            if (StringUtils.hasText(policy.getMethod()) && !policy.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (pathMatcher.match(policy.getPattern(), path)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    // 로그인 사용자는 사용자 ID, 그 외에는 클라이언트 IP
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record Limiter(RateLimitProperties.Policy policy, TokenBucketRegistry buckets) {
+    }
+}
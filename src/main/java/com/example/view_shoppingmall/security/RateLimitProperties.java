@@ -0,0 +1,35 @@
+package com.example.view_shoppingmall.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ * - policies 는 위에서부터 먼저 일치하는 정책 하나만 적용한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 정책별로 유지하는 최대 키(사용자/IP) 수
+    private long maximumKeys = 100000;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+        private String name;
+        private String pattern;         // Ant 스타일 경로 (예: /api/products/search)
+        private String method;          // 비어 있으면 모든 메서드
+        private long capacity;          // period 동안 허용할 요청 수 (순간 최대치)
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
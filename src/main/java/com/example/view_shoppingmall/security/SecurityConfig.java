@@ -1,5 +1,6 @@
 package com.example.view_shoppingmall.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
 
     @Bean
@@ -35,6 +37,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE 등) 재디스패치는 최초 요청에서 이미 인가됨 (무상태라 인증 정보가 없음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 불필요 경로
                         .requestMatchers("/api/auth/**").permitAll()
                         // 상품 조회는 모든 사용자에게 허용
@@ -45,7 +49,9 @@ public class SecurityConfig {
                         // 나머지는 인증 필요
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 속도 제한은 인증 이후 (로그인 사용자는 사용자 ID 기준으로 제한)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,78 @@
+package com.example.view_shoppingmall.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식)
+ * - 버킷이 다시 가득 차는 시각 하나만 AtomicLong 으로 유지하고 CAS 로 갱신한다.
+ * - capacity 개까지 한 번에 허용하고, period 동안 capacity 개가 다시 채워진다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long capacityNanos;
+
+    // 버킷이 가득 차는 시각 (System.nanoTime 기준)
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, Duration period) {
+        if (capacity <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("capacity 와 period 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, period.toNanos() / capacity);
+        this.capacityNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public Probe tryConsume() {
+        return tryConsume(System.nanoTime());
+    }
+
+    // 토큰 하나 소비 시도
+    public Probe tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + nanosPerToken;
+            long overflow = next - now - capacityNanos;
+            if (overflow > 0) {
+                return new Probe(false, 0, overflow, Math.max(current, now) - now);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, (capacityNanos - (next - now)) / nanosPerToken, 0, next - now);
+            }
+        }
+    }
+
+    // 가득 찬 상태 (제거해도 동작이 달라지지 않음)
+    public boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+
+    /**
+     * 소비 결과
+     * - remaining: 남은 토큰 수
+     * - retryAfterNanos: 거절된 경우 다음 토큰까지 대기 시간
+     * - resetNanos: 버킷이 다시 가득 찰 때까지 남은 시간
+     */
+    public record Probe(boolean allowed, long remaining, long retryAfterNanos, long resetNanos) {
+
+        public long retryAfterSeconds() {
+            return toSecondsCeil(retryAfterNanos);
+        }
+
+        public long resetSeconds() {
+            return toSecondsCeil(resetNanos);
+        }
+
+        private static long toSecondsCeil(long nanos) {
+            return nanos <= 0 ? 0 : (nanos + 999_999_999L) / 1_000_000_000L;
+        }
+    }
+}
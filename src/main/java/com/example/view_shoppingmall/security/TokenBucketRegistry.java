@@ -0,0 +1,39 @@
+package com.example.view_shoppingmall.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 키(사용자명, IP 등)별 토큰 버킷 모음
+ * - 최대 키 수를 제한하고, period 동안 쓰이지 않은 키는 제거한다.
+ *   (그만큼 쉬었으면 버킷은 이미 가득 찬 상태이므로 제거해도 결과가 같다.)
+ */
+public class TokenBucketRegistry {
+
+    private final long capacity;
+    private final Duration period;
+    private final Cache<String, TokenBucket> buckets;
+
+    public TokenBucketRegistry(long capacity, Duration period, long maximumKeys) {
+        this.capacity = capacity;
+        this.period = period;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    public TokenBucket.Probe tryConsume(String key) {
+        return buckets.get(key, k -> new TokenBucket(capacity, period)).tryConsume();
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
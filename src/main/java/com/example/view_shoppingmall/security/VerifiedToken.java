@@ -0,0 +1,48 @@
+package com.example.view_shoppingmall.security;
+
+import com.example.view_shoppingmall.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명/만료 검증을 통과한 토큰의 클레임
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String username;
+    private final String type;      // access | refresh
+    private final Long userId;      // access 토큰만
+    private final String role;      // access 토큰만
+    private final String tokenId;   // refresh 토큰만 (jti)
+    private final String familyId;  // 로그인 한 번에 발급된 토큰 묶음 ID
+    private final long expiresAt;   // 만료 시각 (epoch millis)
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * 클레임으로 인증 주체 생성 (ID/사용자명/권한만 채워지며 DB 를 조회하지 않는다)
+     * - 권한 변경은 다음 토큰 재발급(refresh) 때 반영된다.
+     * - ID/권한 클레임이 없는 토큰(이전 형식, refresh 토큰)이면 null 을 반환한다.
+     */
+    public User toUser() {
+        if (userId == null || role == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(username);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.BulkImportResult;
+import com.example.view_shoppingmall.dto.ProductDTO;
+import com.example.view_shoppingmall.event.ProductsImportedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.util.CsvReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 대량 등록/내보내기
+ * - 요청 본문을 한 행씩 읽어 검증하고, chunk-size 단위로 JDBC 배치 INSERT 한다.
+ *   (IDENTITY 키 전략에서는 Hibernate 가 INSERT 배치를 하지 않으므로 JPA 를 거치지 않는다.
+ *    MySQL 에서는 rewriteBatchedStatements=true 로 다중 행 INSERT 가 된다.)
+ * - 청크마다 별도 트랜잭션으로 커밋하므로 중간에 실패해도 앞선 청크는 유지된다.
+ *   청크 INSERT 가 실패하면 한 행씩 다시 넣어 실패한 행만 오류로 보고하고 계속 읽는다.
+ * - 본문 읽기가 중단되어도 그때까지 커밋된 행은 완료 이벤트로 검색 색인/캐시에 반영한다.
+ * - 내보내기는 JDBC 커서로 한 행씩 읽어 바로 응답 스트림에 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+    private static final String INSERT_SQL = "INSERT INTO products "
+            + "(name, description, price, stock, image_url, category, rating_sum, rating_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+
+    private static final String EXPORT_SQL = "SELECT id, name, description, price, stock, image_url, category, updated_at "
+            + "FROM products ORDER BY id";
+
+    public static final List<String> CSV_HEADER =
+            List.of("name", "description", "price", "stock", "imageUrl", "category");
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${product.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${product.export.timeout:5m}")
+    private Duration exportTimeout;
+
+    // 내보내기 전용 읽기 트랜잭션 (시간 제한 - 느린 클라이언트가 커넥션을 무한정 붙잡지 못하도록)
+    private TransactionTemplate exportTransaction;
+
+    @PostConstruct
+    public void init() {
+        exportTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        exportTransaction.setReadOnly(true);
+        exportTransaction.setTimeout((int) exportTimeout.toSeconds());
+    }
+
+    // NDJSON (한 줄에 상품 JSON 하나) 대량 등록
+    public BulkImportResult importNdjson(InputStream in) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        Long afterId = currentMaxId();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    ProductDTO product = objectMapper.readValue(line, ProductDTO.class);
+                    acceptRow(product, lineNumber, chunk, result);
+                } catch (JsonProcessingException e) {
+                    result.addError(lineNumber, "JSON 형식이 올바르지 않습니다.");
+                }
+            }
+        } catch (IOException e) {
+            // 연결 끊김 등으로 본문 읽기가 중단되면 그때까지 읽은 행만 반영
+            result.addError(lineNumber + 1, "요청 본문을 끝까지 읽지 못했습니다.");
+        } finally {
+            // 앞서 커밋된 청크도 색인/캐시에 반영되도록 중단되더라도 항상 완료 이벤트를 발행
+            flush(chunk, result);
+            publishImported(afterId, result);
+        }
+        return result;
+    }
+
+    // CSV (첫 행은 헤더: name,description,price,stock,imageUrl,category) 대량 등록
+    public BulkImportResult importCsv(InputStream in) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        Long afterId = currentMaxId();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.readRecord();
+        if (header == null || !header.equals(CSV_HEADER)) {
+            throw new RuntimeException("CSV 헤더는 " + String.join(",", CSV_HEADER) + " 이어야 합니다.");
+        }
+
+        List<String> record;
+        try {
+            while ((record = reader.readRecord()) != null) {
+                long lineNumber = reader.getRecordLine();
+                if (record.size() == 1 && record.get(0).isEmpty()) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                if (record.size() != CSV_HEADER.size()) {
+                    result.addError(lineNumber, "열 개수가 맞지 않습니다.");
+                    continue;
+                }
+                try {
+                    ProductDTO product = new ProductDTO(null,
+                            record.get(0), emptyToNull(record.get(1)),
+                            Integer.valueOf(record.get(2).trim()), Integer.valueOf(record.get(3).trim()),
+                            emptyToNull(record.get(4)), emptyToNull(record.get(5)), null, null, null);
+                    acceptRow(product, lineNumber, chunk, result);
+                } catch (NumberFormatException e) {
+                    result.addError(lineNumber, "가격과 재고는 숫자여야 합니다.");
+                }
+            }
+        } catch (IOException e) {
+            // 닫히지 않은 따옴표/연결 끊김 - 그때까지 읽은 행만 반영하고 중단 위치를 보고
+            result.addError(reader.getRecordLine(), e.getMessage());
+        } finally {
+            flush(chunk, result);
+            publishImported(afterId, result);
+        }
+        return result;
+    }
+
+    // JSON 배열 내보내기 (상품 피드/외부 색인용, 한 행씩 직렬화)
+    public void exportJson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartArray();
+        forEachProduct(generator::writeObject);
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    // NDJSON 내보내기
+    public void exportNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        forEachProduct(product -> {
+            generator.writeObject(product);
+            generator.writeRaw('\n');
+        });
+        generator.close();
+    }
+
+    // CSV 내보내기
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write('\n');
+        forEachProduct(product ->
+                writer.write(CsvReader.escape(product.getName()) + ","
+                        + CsvReader.escape(product.getDescription()) + ","
+                        + product.getPrice() + ","
+                        + product.getStock() + ","
+                        + CsvReader.escape(product.getImageUrl()) + ","
+                        + CsvReader.escape(product.getCategory()) + "\n"));
+        writer.flush();
+    }
+
+    // 행 검증 후 청크에 추가, 청크가 차면 배치 INSERT
+    private void acceptRow(ProductDTO product, long lineNumber, List<Row> chunk, BulkImportResult result) {
+        String error = validate(product);
+        if (error != null) {
+            result.addError(lineNumber, error);
+            return;
+        }
+        chunk.add(new Row(lineNumber, product));
+        if (chunk.size() >= chunkSize) {
+            flush(chunk, result);
+        }
+    }
+
+    private String validate(ProductDTO product) {
+        // "null" 같은 JSON 객체가 아닌 행
+        if (product == null) {
+            return "상품 정보는 JSON 객체여야 합니다.";
+        }
+        if (product.getName() == null || product.getName().isBlank()) {
+            return "상품명은 필수입니다.";
+        }
+        if (product.getName().length() > 255) {
+            return "상품명은 255자 이하여야 합니다.";
+        }
+        if (product.getDescription() != null && product.getDescription().length() > 1000) {
+            return "설명은 1000자 이하여야 합니다.";
+        }
+        if (product.getPrice() == null || product.getPrice() < 0) {
+            return "가격은 0 이상이어야 합니다.";
+        }
+        if (product.getStock() == null || product.getStock() < 0) {
+            return "재고는 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    // 청크를 하나의 트랜잭션에서 JDBC 배치로 INSERT (실패 시 한 행씩 다시 넣어 실패한 행만 보고)
+    private void flush(List<Row> chunk, BulkImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(),
+                            (ps, row) -> bind(ps, row.product(), now)));
+            result.setImported(result.getImported() + chunk.size());
+        } catch (DataAccessException | TransactionException e) {
+            for (Row row : chunk) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row.product(), now));
+                    result.setImported(result.getImported() + 1);
+                } catch (DataAccessException rowError) {
+                    result.addError(row.line(), "상품을 저장하지 못했습니다.");
+                }
+            }
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private void bind(PreparedStatement ps, ProductDTO product, Timestamp now) throws SQLException {
+        ps.setString(1, product.getName());
+        ps.setString(2, product.getDescription());
+        ps.setInt(3, product.getPrice());
+        ps.setInt(4, product.getStock());
+        ps.setString(5, product.getImageUrl());
+        ps.setString(6, product.getCategory());
+        ps.setTimestamp(7, now);
+        ps.setTimestamp(8, now);
+    }
+
+    /**
+     * 전체 상품을 ID 순 전진 전용 커서로 한 행씩 읽어 전달한다.
+     * - 엔티티/영속성 컨텍스트를 거치지 않고, 드라이버는 fetch-size 만큼만 행을 들고 있으므로
+     *   카탈로그 크기와 관계없이 메모리 사용량이 일정하다.
+     *   (MySQL 은 이 문장에만 fetchSize=Integer.MIN_VALUE 를 지정해 행 단위로 스트리밍한다.
+     *    연결 URL 의 useCursorFetch 는 앱 전체 쿼리를 서버 커서로 바꾸므로 쓰지 않는다.)
+     * - 한 트랜잭션 안에서 읽으므로 내보내는 도중의 변경과 섞이지 않는다.
+     *   대신 내려받는 동안 커넥션 풀의 연결 하나를 점유하므로, 트랜잭션에 export.timeout 을 걸어
+     *   (문장 쿼리 타임아웃 + 행마다 기한 확인) 시간이 지나면 중단하고 연결을 돌려준다.
+     */
+    private void forEachProduct(ProductConsumer consumer) throws IOException {
+        long deadline = System.nanoTime() + exportTimeout.toNanos();
+        try {
+            exportTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(con -> {
+                        PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : exportFetchSize);
+                        return ps;
+                    }, (RowCallbackHandler) rs -> {
+                        try {
+                            if (System.nanoTime() > deadline) {
+                                throw new IOException("내보내기 시간이 초과되었습니다.");
+                            }
+                            consumer.accept(mapRow(rs));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean isMySql(Connection con) throws SQLException {
+        return "MySQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+    }
+
+    private ProductDTO mapRow(ResultSet rs) throws SQLException {
+        return new ProductDTO(rs.getLong("id"), rs.getString("name"), rs.getString("description"),
+                rs.getInt("price"), rs.getInt("stock"), rs.getString("image_url"),
+                rs.getString("category"), rs.getObject("updated_at", LocalDateTime.class), null, null);
+    }
+
+    private Long currentMaxId() {
+        Long maxId = productRepository.findListVersion().getMaxId();
+        return maxId == null ? 0L : maxId;
+    }
+
+    private void publishImported(Long afterId, BulkImportResult result) {
+        if (result.getImported() > 0) {
+            eventPublisher.publishEvent(new ProductsImportedEvent(afterId, result.getImported()));
+        }
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface ProductConsumer {
+        void accept(ProductDTO product) throws IOException;
+    }
+
+    // 요청 행 (오류 보고용 줄 번호 포함)
+    private record Row(long line, ProductDTO product) {
+    }
+}
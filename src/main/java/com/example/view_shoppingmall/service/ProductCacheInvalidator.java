@@ -0,0 +1,74 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.config.CacheConfig;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
+import com.example.view_shoppingmall.event.ProductsImportedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경이 커밋된 시점에 상품 캐시를 무효화
+ * - 상세 캐시는 해당 상품 ID 만, 목록 캐시는 변경 전/후 카테고리의 엔트리만 제거한다.
+ * - 목록 버전 캐시는 전체 목록("*")과 변경 전/후 카테고리만 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Cache productCache = cacheManager.getCache(CacheConfig.PRODUCT);
+        if (productCache != null) {
+            productCache.evict(event.getProductId());
+        }
+
+        Cache versionCache = cacheManager.getCache(CacheConfig.PRODUCT_LIST_VERSION);
+        if (versionCache != null) {
+            versionCache.evict(ProductService.ALL_CATEGORIES);
+        }
+
+        evictCategory(event.getPreviousCategory());
+        if (event.getProduct() != null) {
+            evictCategory(event.getProduct().getCategory());
+        }
+    }
+
+    // 대량 등록은 여러 카테고리에 걸치므로 목록/목록 버전 캐시를 모두 비운다
+    @EventListener
+    public void onProductsImported(ProductsImportedEvent event) {
+        clear(CacheConfig.PRODUCT_CATEGORY);
+        clear(CacheConfig.PRODUCT_LIST_VERSION);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    // 카테고리 목록 캐시에서 해당 카테고리의 모든 페이지 제거
+    private void evictCategory(String category) {
+        if (category == null) {
+            return;
+        }
+        Cache versionCache = cacheManager.getCache(CacheConfig.PRODUCT_LIST_VERSION);
+        if (versionCache != null) {
+            versionCache.evict(category);
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_CATEGORY);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            String prefix = category + ":";
+            caffeineCache.getNativeCache().asMap().keySet()
+                    .removeIf(key -> key.toString().startsWith(prefix));
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package com.example.view_shoppingmall.service;
 
-import com.example.view_shoppingmall.dto.ProductDTO;
+import com.example.view_shoppingmall.config.CacheConfig;
+import com.example.view_shoppingmall.dto.*;
 import com.example.view_shoppingmall.entity.Product;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
 import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.RatingHistogramRepository;
+import com.example.view_shoppingmall.repository.ProductSpecifications;
+import com.example.view_shoppingmall.search.ProductSearchIndex;
+import com.example.view_shoppingmall.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,34 +33,147 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    // 목록 버전 캐시에서 전체 목록을 나타내는 키
+    public static final String ALL_CATEGORIES = "*";
+
     private final ProductRepository productRepository;
+    private final RatingHistogramRepository ratingHistogramRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 모든 상품 조회
-    public List<ProductDTO> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Value("${product.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${product.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${product.search.max-results:1000}")
+    private int maxSearchResults;
+
+    @Value("${product.facet.price-buckets:10000,50000,100000,500000}")
+    private List<Integer> priceBucketBounds;
+
+    // 모든 상품 조회 (커서 페이지네이션)
+    public CursorPage<ProductDTO> getAllProducts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Long lastId = CursorCodec.decodeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Product> products = lastId == null
+                ? productRepository.findAllByOrderByIdDesc(limit)
+                : productRepository.findByIdLessThanOrderByIdDesc(lastId, limit);
+        return toCursorPage(products, pageSize);
     }
 
-    // 상품 ID로 조회
+    // 상품 ID로 조회 (캐시, 변경 커밋 시 ProductCacheInvalidator 가 무효화)
+    @Cacheable(cacheNames = CacheConfig.PRODUCT, key = "#id")
     public ProductDTO getProductById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
         return convertToDTO(product);
     }
 
-    // 카테고리별 상품 조회
-    public List<ProductDTO> getProductsByCategory(String category) {
-        return productRepository.findByCategory(category).stream()
+    // 카테고리별 상품 조회 (커서 페이지네이션, 캐시)
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_CATEGORY, key = "#category + ':' + #cursor + ':' + #size")
+    public CursorPage<ProductDTO> getProductsByCategory(String category, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Long lastId = CursorCodec.decodeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Product> products = lastId == null
+                ? productRepository.findByCategoryOrderByIdDesc(category, limit)
+                : productRepository.findByCategoryAndIdLessThanOrderByIdDesc(category, lastId, limit);
+        return toCursorPage(products, pageSize);
+    }
+
+    // 상품 목록 버전 조회 (category 가 null 이면 전체 목록, 캐시)
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_LIST_VERSION,
+            key = "#category == null ? T(com.example.view_shoppingmall.service.ProductService).ALL_CATEGORIES : #category")
+    public ProductListVersion getListVersion(String category) {
+        return category == null
+                ? productRepository.findListVersion()
+                : productRepository.findListVersionByCategory(category);
+    }
+
+    /**
+     * 상품 검색 (검색 색인 기반, 관련도순 페이지네이션)
+     * - 색인 준비 전에 받은 ID 커서로 이어 읽는 요청은 색인이 준비된 뒤에도 같은 대체 경로로 이어서 조회한다.
+     */
+    public CursorPage<ProductDTO> searchProducts(String keyword, String cursor, Integer size) {
+        boolean continuesByName = cursor != null && !cursor.isBlank() && !CursorCodec.isOffset(cursor);
+        if (!productSearchIndex.isReady() || continuesByName) {
+            return searchProductsByName(keyword, cursor, size);
+        }
+
+        CursorPage<Long> page = CursorPage.slice(
+                productSearchIndex.search(keyword, maxSearchResults), cursor, resolvePageSize(size));
+        List<Long> pageIds = page.getContent();
+
+        // 관련도 순서를 유지하며 PK 조회 결과를 배치
+        Map<Long, Product> products = productRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductDTO> content = pageIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return new CursorPage<>(content, page.getNextCursor(), page.isHasNext());
     }
 
-    // 상품명 검색
-    public List<ProductDTO> searchProducts(String keyword) {
-        return productRepository.findByNameContaining(keyword).stream()
+    // 상품명 부분 일치 검색 (검색 색인 준비 전 대체 경로)
+    private CursorPage<ProductDTO> searchProductsByName(String keyword, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Long lastId = CursorCodec.decodeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Product> products = lastId == null
+                ? productRepository.findByNameContainingOrderByIdDesc(keyword, limit)
+                : productRepository.findByNameContainingAndIdLessThanOrderByIdDesc(keyword, lastId, limit);
+        return toCursorPage(products, pageSize);
+    }
+
+    /**
+     * 상품 필터 조회 (카테고리/가격/재고/키워드 조합 + 정렬/페이지) 및 패싯 집계
+     * - 목록 1회(+건수), 카테고리 패싯 1회, 가격 구간/재고 패싯 1회의 집계 쿼리로 처리한다.
+     */
+    public ProductFilterResponse filterProducts(ProductFilterRequest request) {
+        int page = request.getPage() == null || request.getPage() < 0 ? 0 : request.getPage();
+        int pageSize = resolvePageSize(request.getSize());
+
+        Specification<Product> category = ProductSpecifications.categoryEquals(request.getCategory());
+        Specification<Product> price = ProductSpecifications.priceBetween(request.getMinPrice(), request.getMaxPrice());
+        Specification<Product> stock = ProductSpecifications.inStock(request.getInStock());
+        // 색인 검색 결과는 상위 maxSearchResults 건까지만 조건에 쓰이므로 넘치면 응답에 표시한다
+        List<Long> keywordIds = keywordMatches(request.getKeyword());
+        boolean truncated = keywordIds != null && keywordIds.size() > maxSearchResults;
+        Specification<Product> keyword = keywordIds != null
+                ? ProductSpecifications.idIn(truncated ? keywordIds.subList(0, maxSearchResults) : keywordIds)
+                : ProductSpecifications.nameContains(request.getKeyword());
+
+        Page<Product> products = productRepository.findAll(
+                Specification.allOf(category, price, stock, keyword),
+                PageRequest.of(page, pageSize, resolveSort(request.getSort())));
+
+        // 각 패싯은 자기 조건만 제외하고 나머지 조건을 적용해 집계
+        Map<String, Long> categoryCounts = productRepository.countByCategory(
+                Specification.allOf(price, stock, keyword));
+        List<Long> bucketCounts = productRepository.countByPriceBucketsAndStock(
+                Specification.allOf(category, keyword), price, stock, priceBucketBounds);
+
+        List<PriceBucketDTO> priceBuckets = new ArrayList<>();
+        for (int i = 0; i <= priceBucketBounds.size(); i++) {
+            Integer min = i == 0 ? null : priceBucketBounds.get(i - 1);
+            Integer max = i == priceBucketBounds.size() ? null : priceBucketBounds.get(i);
+            priceBuckets.add(new PriceBucketDTO(min, max, bucketCounts.get(i)));
+        }
+        ProductFacetsDTO facets = new ProductFacetsDTO(
+                categoryCounts, priceBuckets, bucketCounts.get(bucketCounts.size() - 1));
+
+        List<ProductDTO> content = products.getContent().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return new ProductFilterResponse(content, page, pageSize,
+                products.getTotalElements(), products.hasNext(), truncated, facets);
     }
 
     // 상품 등록
@@ -50,7 +181,12 @@ public class ProductService {
     public ProductDTO createProduct(ProductDTO productDTO) {
         Product product = convertToEntity(productDTO);
         Product savedProduct = productRepository.save(product);
-        return convertToDTO(savedProduct);
+        // 별점 분포 행을 같이 만들어 두어 조회가 reviews 집계로 넘어가지 않도록 한다
+        ratingHistogramRepository.insertEmpty(savedProduct.getId());
+        ProductDTO created = convertToDTO(savedProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ProductChangedEvent.Type.CREATED, created.getId(), created, null));
+        return created;
     }
 
     // 상품 수정
@@ -58,25 +194,91 @@ public class ProductService {
     public ProductDTO updateProduct(Long id, ProductDTO productDTO) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
+        String previousCategory = product.getCategory();
 
         product.setName(productDTO.getName());
         product.setDescription(productDTO.getDescription());
         product.setPrice(productDTO.getPrice());
-        product.setStock(productDTO.getStock());
+        // 재고는 예약과 경합하므로 여기서 바꾸지 않는다 (StockReservationService.adjustStock)
         product.setImageUrl(productDTO.getImageUrl());
         product.setCategory(productDTO.getCategory());
 
         Product updatedProduct = productRepository.save(product);
-        return convertToDTO(updatedProduct);
+        ProductDTO updated = convertToDTO(updatedProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ProductChangedEvent.Type.UPDATED, id, updated, previousCategory));
+        return updated;
     }
 
     // 상품 삭제
     @Transactional
     public void deleteProduct(Long id) {
-        if (!productRepository.existsById(id)) {
-            throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
+        productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ProductChangedEvent.Type.DELETED, id, null, product.getCategory()));
+    }
+
+    // 요청 페이지 크기 보정 (미지정 시 기본값, 최대값 제한)
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 키워드에 일치하는 상품 ID (관련도순, 상한 초과 여부 판단을 위해 maxSearchResults + 1 건까지)
+     * - 키워드가 없거나 색인 준비 전이면 null (색인 준비 전에는 상품명 부분 일치 조건을 쓴다)
+     */
+    private List<Long> keywordMatches(String keyword) {
+        if (keyword == null || keyword.isBlank() || !productSearchIndex.isReady()) {
+            return null;
+        }
+        return productSearchIndex.search(keyword, maxSearchResults + 1);
+    }
+
+    /**
+     * 상품 목록에 별점 요약(평균/개수)을 붙인 사본 반환 - 페이지 전체를 IN 조회 한 번으로 채운다.
+     * 별점은 리뷰 작성/삭제마다 바뀌므로 목록 캐시에는 넣지 않고 응답 직전에 붙인다.
+     */
+    public List<ProductDTO> withRatingSummaries(List<ProductDTO> products) {
+        if (products.isEmpty()) {
+            return products;
+        }
+        List<Long> ids = products.stream().map(ProductDTO::getId).toList();
+        Map<Long, RatingSummaryDTO> summaries = productRepository.findRatingSummaries(ids).stream()
+                .collect(Collectors.toMap(RatingSummaryDTO::getProductId, Function.identity()));
+        return products.stream()
+                .map(product -> product.withRating(summaries.getOrDefault(product.getId(),
+                        new RatingSummaryDTO(product.getId(), 0.0, 0L))))
+                .collect(Collectors.toList());
+    }
+
+    // 정렬 조건 변환
+    private Sort resolveSort(String sort) {
+        if (sort == null) {
+            return Sort.by(Sort.Direction.DESC, "id");
         }
-        productRepository.deleteById(id);
+        switch (sort) {
+            case "price_asc":
+                return Sort.by(Sort.Direction.ASC, "price").and(Sort.by(Sort.Direction.DESC, "id"));
+            case "price_desc":
+                return Sort.by(Sort.Direction.DESC, "price").and(Sort.by(Sort.Direction.DESC, "id"));
+            case "name":
+                return Sort.by(Sort.Direction.ASC, "name").and(Sort.by(Sort.Direction.DESC, "id"));
+            default:
+                return Sort.by(Sort.Direction.DESC, "id");
+        }
+    }
+
+    // size + 1 건 조회 결과 -> 커서 페이지 변환
+    private CursorPage<ProductDTO> toCursorPage(List<Product> products, int pageSize) {
+        List<ProductDTO> dtos = products.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return CursorPage.of(dtos, pageSize, dto -> CursorCodec.encodeId(dto.getId()));
     }
 
     // Entity -> DTO 변환
@@ -88,7 +290,10 @@ public class ProductService {
                 product.getPrice(),
                 product.getStock(),
                 product.getImageUrl(),
-                product.getCategory());
+                product.getCategory(),
+                product.getUpdatedAt(),
+                null,
+                null);
     }
 
     // DTO -> Entity 변환
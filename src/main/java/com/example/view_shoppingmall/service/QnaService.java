@@ -1,20 +1,32 @@
 package com.example.view_shoppingmall.service;
 
+import com.example.view_shoppingmall.config.CacheConfig;
 import com.example.view_shoppingmall.dto.*;
 import com.example.view_shoppingmall.entity.Answer;
 import com.example.view_shoppingmall.entity.Question;
 import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.event.QuestionChangedEvent;
 import com.example.view_shoppingmall.repository.AnswerRepository;
 import com.example.view_shoppingmall.repository.QuestionRepository;
 import com.example.view_shoppingmall.repository.UserRepository;
+import com.example.view_shoppingmall.search.QuestionSearchIndex;
+import com.example.view_shoppingmall.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,35 +37,94 @@ public class QnaService {
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
     private final UserRepository userRepository;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 질문 목록 조회 (페이지네이션)
+    @Value("${qna.page.default-size:10}")
+    private int defaultPageSize;
+
+    @Value("${qna.page.max-size:50}")
+    private int maxPageSize;
+
+    @Value("${qna.search.max-results:1000}")
+    private int maxSearchResults;
+
+    // 질문 목록 조회 (페이지네이션, 작성자명까지 한 쿼리 + 전체 건수 쿼리)
     public Page<QuestionDTO> getQuestions(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Question> questions = questionRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return questions.map(this::convertToQuestionDTO);
+        return questionRepository.findDTOPage(pageable);
+    }
+
+    /**
+     * 질문 목록 조회 (최신순 커서 페이지네이션)
+     * - (createdAt, id) 인덱스를 따라 다음 페이지를 바로 찾으므로 깊은 페이지도 OFFSET 스캔이 없고,
+     *   size + 1 건으로 다음 페이지 여부를 판단해 전체 건수 쿼리도 실행하지 않는다.
+     */
+    public CursorPage<QuestionDTO> getQuestionsByCursor(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<QuestionDTO> questions = after == null
+                ? questionRepository.findDTOSlice(limit)
+                : questionRepository.findDTOSliceBefore(after.time(), after.id(), limit);
+        return CursorPage.of(questions, pageSize,
+                question -> CursorCodec.encodeTimeId(question.getCreatedAt(), question.getId()));
     }
 
-    // 질문 검색 (페이지네이션)
+    // 미답변 질문 대기열 조회 (관리자 화면용, 오래된 순 커서 페이지네이션)
+    public CursorPage<QuestionDTO> getUnansweredQuestions(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<QuestionDTO> questions = after == null
+                ? questionRepository.findUnansweredDTOSlice(limit)
+                : questionRepository.findUnansweredDTOSliceAfter(after.time(), after.id(), limit);
+        return CursorPage.of(questions, pageSize,
+                question -> CursorCodec.encodeTimeId(question.getCreatedAt(), question.getId()));
+    }
+
+    /**
+     * 질문 검색 (검색 색인 기반, 관련도순 페이지네이션 - 동점이면 최신 질문 우선)
+     * - 질문 제목/내용과 답변 내용을 함께 검색하며, 페이지 내용은 ID IN 조회 한 번으로 채운다.
+     * - 색인 준비 전에는 제목/내용 부분 일치(최신순)로 조회한다.
+     * - 색인 검색 결과는 상위 qna.search.max-results 건까지이므로 totalElements 도 그 값에서 멈춘다
+     *   (그 이상 일치하면 "최대 N건" 으로 보아야 한다).
+     */
     public Page<QuestionDTO> searchQuestions(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Question> questions = questionRepository
-                .findByTitleContainingOrContentContainingOrderByCreatedAtDesc(keyword, keyword, pageable);
-        return questions.map(this::convertToQuestionDTO);
+        if (!questionSearchIndex.isReady()) {
+            return questionRepository.searchDTOPage(keyword, pageable);
+        }
+
+        List<Long> ids = questionSearchIndex.search(keyword, maxSearchResults);
+        long offset = pageable.getOffset();
+        if (offset >= ids.size()) {
+            return new PageImpl<>(List.of(), pageable, ids.size());
+        }
+        List<Long> pageIds = ids.subList((int) offset, (int) Math.min(offset + size, ids.size()));
+
+        // 관련도 순서를 유지하며 IN 조회 결과를 배치
+        Map<Long, QuestionDTO> questions = questionRepository.findDTOsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(QuestionDTO::getId, Function.identity()));
+        List<QuestionDTO> content = pageIds.stream()
+                .map(questions::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.size());
     }
 
-    // 질문 상세 조회
+    // 질문 상세 조회 (답변 완료된 질문만 캐시, 삭제 커밋 시 QuestionCacheInvalidator 가 무효화)
+    @Cacheable(cacheNames = CacheConfig.QUESTION, key = "#id", unless = "#result.answer == null")
     public QuestionDTO getQuestionById(Long id) {
-        Question question = questionRepository.findById(id)
+        return questionRepository.findDetailById(id)
                 .orElseThrow(() -> new RuntimeException("질문을 찾을 수 없습니다."));
-        return convertToQuestionDTOWithAnswer(question);
     }
 
     // 내 질문 목록 조회
     public List<QuestionDTO> getMyQuestions(Long userId) {
-        List<Question> questions = questionRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return questions.stream()
-                .map(this::convertToQuestionDTO)
-                .collect(Collectors.toList());
+        return questionRepository.findDTOsByUserId(userId);
     }
 
     // 질문 생성
@@ -69,7 +140,10 @@ public class QnaService {
         question.setIsAnswered(false);
 
         Question savedQuestion = questionRepository.save(question);
-        return convertToQuestionDTO(savedQuestion);
+        QuestionDTO created = convertToQuestionDTO(savedQuestion);
+        eventPublisher.publishEvent(new QuestionChangedEvent(
+                QuestionChangedEvent.Type.CREATED, created.getId(), created, null));
+        return created;
     }
 
     // 질문 삭제
@@ -85,6 +159,8 @@ public class QnaService {
         // 답변이 있으면 먼저 삭제
         answerRepository.findByQuestionId(id).ifPresent(answerRepository::delete);
         questionRepository.delete(question);
+        eventPublisher.publishEvent(new QuestionChangedEvent(
+                QuestionChangedEvent.Type.DELETED, id, null, null));
     }
 
     // 답변 생성 (관리자만)
@@ -117,7 +193,17 @@ public class QnaService {
         question.setIsAnswered(true);
         questionRepository.save(question);
 
-        return convertToAnswerDTO(savedAnswer);
+        AnswerDTO created = convertToAnswerDTO(savedAnswer);
+        eventPublisher.publishEvent(new QuestionChangedEvent(
+                QuestionChangedEvent.Type.ANSWERED, questionId, null, created));
+        return created;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
     }
 
     // Question -> QuestionDTO 변환
@@ -133,14 +219,6 @@ public class QnaService {
         return dto;
     }
 
-    // Question -> QuestionDTO 변환 (답변 포함)
-    private QuestionDTO convertToQuestionDTOWithAnswer(Question question) {
-        QuestionDTO dto = convertToQuestionDTO(question);
-        answerRepository.findByQuestionId(question.getId())
-                .ifPresent(answer -> dto.setAnswer(convertToAnswerDTO(answer)));
-        return dto;
-    }
-
     // Answer -> AnswerDTO 변환
     private AnswerDTO convertToAnswerDTO(Answer answer) {
         AnswerDTO dto = new AnswerDTO();
@@ -0,0 +1,31 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.config.CacheConfig;
+import com.example.view_shoppingmall.event.QuestionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질문 변경이 커밋된 시점에 질문 상세 캐시를 무효화
+ * - 캐시에는 답변 완료된(더 이상 바뀌지 않는) 질문만 담기므로 삭제 시 해당 질문 ID 만 제거하면 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (event.getType() != QuestionChangedEvent.Type.DELETED) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.QUESTION);
+        if (cache != null) {
+            cache.evict(event.getQuestionId());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 별점 분포 증감분 주기 반영 - 메모리에 모인 증감분을 상품별 UPDATE 한 번으로 합쳐 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RatingHistogramFlushJob {
+
+    private final RatingHistogramService ratingHistogramService;
+
+    @Scheduled(fixedDelayString = "${review.histogram.flush-interval:5s}")
+    public void flush() {
+        ratingHistogramService.flush();
+    }
+}
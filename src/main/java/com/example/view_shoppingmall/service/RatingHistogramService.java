@@ -0,0 +1,229 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.RatingHistogramDTO;
+import com.example.view_shoppingmall.entity.RatingHistogram;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
+import com.example.view_shoppingmall.event.ProductsImportedEvent;
+import com.example.view_shoppingmall.event.ReviewChangedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.RatingHistogramRepository;
+import com.example.view_shoppingmall.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 별점 분포
+ * - 리뷰 작성/삭제 커밋 시 DB 를 바로 갱신하지 않고 상품별 LongAdder 카운터에 증감분만 모은다.
+ *   같은 상품에 리뷰가 몰려도 행 잠금 경합 없이 기록되고, 주기적인 flush 한 번에 합쳐서 반영된다.
+ * - 조회는 저장된 분포 + 아직 반영되지 않은 증감분을 더해 돌려주므로 작성 직후에도 바로 보인다.
+ * - 분포 행은 상품 등록 시 빈 행으로 만들고(대량 등록은 완료 이벤트에서), 기존 상품은 기동 시 재계산이 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RatingHistogramService {
+
+    private static final int STARS = 5;
+
+    private final RatingHistogramRepository histogramRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 상품 ID -> 별점별 미반영 증감분 (index 0 = 1점)
+    // 기록 중인 카운터를 놓치지 않도록 flush 후에도 항목을 지우지 않는다 (기동 후 리뷰가 달린 상품 수만큼만 유지)
+    private final ConcurrentHashMap<Long, LongAdder[]> pending = new ConcurrentHashMap<>();
+
+    // 리뷰 작성/삭제 커밋 후 증감분 기록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        int rating = event.getRating();
+        if (rating < 1 || rating > STARS) {
+            return;
+        }
+        long delta = event.getType() == ReviewChangedEvent.Type.CREATED ? 1 : -1;
+        pending.computeIfAbsent(event.getProductId(), id -> newCounters())[rating - 1].add(delta);
+    }
+
+    // 대량 등록된 상품의 빈 분포 행 생성 (JDBC 배치 등록이라 상품별 이벤트가 없음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        transactionTemplate.executeWithoutResult(status ->
+                histogramRepository.insertEmptyAfter(event.getAfterId()));
+    }
+
+    // 상품 삭제 커밋 후 분포도 정리
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            pending.remove(event.getProductId());
+            transactionTemplate.executeWithoutResult(status ->
+                    histogramRepository.deleteById(event.getProductId()));
+        }
+    }
+
+    /**
+     * 상품 별점 분포 조회 (저장된 분포 + 미반영 증감분)
+     * - 분포 행이 아직 없는 상품(기동 시 재계산 전 등)은 reviews 에서 바로 집계한다 (커밋된 리뷰가 모두 포함되므로 증감분은 더하지 않는다).
+     */
+    public RatingHistogramDTO getHistogram(Long productId) {
+        Optional<RatingHistogram> histogram = histogramRepository.findById(productId);
+        if (histogram.isEmpty()) {
+            return RatingHistogramDTO.of(productId, countFromReviews(productId));
+        }
+        long[] counts = histogram.get().getCounts();
+        LongAdder[] counters = pending.get(productId);
+        if (counters != null) {
+            for (int i = 0; i < STARS; i++) {
+                counts[i] = Math.max(0, counts[i] + counters[i].sum());
+            }
+        }
+        return RatingHistogramDTO.of(productId, counts);
+    }
+
+    /**
+     * 모아 둔 증감분을 한 트랜잭션으로 반영한다.
+     * - 카운터는 읽은 값만큼만 빼므로 flush 도중 들어온 증감분은 다음 flush 로 넘어간다.
+     * - 반영에 실패하면 뺀 값을 되돌려 다음 flush 에서 다시 시도한다.
+     * - 분포 행이 없는 상품의 증감분은 버린다. 조회는 reviews 를 바로 집계하고 빠진 행은 reconcile 이 만든다.
+     *   (여기서 집계해 만들면 drain 이후 커밋된 리뷰가 집계와 다음 증감분 양쪽에 들어가 두 번 세어진다)
+     */
+    public synchronized int flush() {
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder[]> entry : pending.entrySet()) {
+            long[] deltas = drain(entry.getValue());
+            if (deltas != null) {
+                drained.put(entry.getKey(), deltas);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(this::apply));
+        } catch (RuntimeException e) {
+            drained.forEach((productId, deltas) -> {
+                LongAdder[] counters = pending.computeIfAbsent(productId, id -> newCounters());
+                for (int i = 0; i < STARS; i++) {
+                    counters[i].add(deltas[i]);
+                }
+            });
+            log.warn("별점 분포 반영 실패 ({}개 상품, 다음 주기에 재시도): {}", drained.size(), e.getMessage());
+            return 0;
+        }
+        return drained.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 별점 분포 재계산 (상품 ID 순 한 청크) - reviews 기준으로 어긋난 분포만 보정하고 없는 분포 행을 만든다 (리뷰가 없는 상품 포함).
+     * - 미반영 증감분이 남아 있는 상품은 건너뛰고 다음 재계산에서 맞춘다.
+     * - 더 처리할 상품이 없으면 null 을, 아니면 마지막으로 처리한 상품 ID 를 반환한다.
+     */
+    public synchronized Long reconcile(Long afterId, int chunkSize) {
+        flush();
+        return transactionTemplate.execute(status -> {
+            List<Object[]> products = productRepository.findRatingTotalsAfter(afterId, Limit.of(chunkSize));
+            if (products.isEmpty()) {
+                return null;
+            }
+            List<Long> productIds = products.stream().map(row -> (Long) row[0]).toList();
+            Long fromId = productIds.get(0);
+            Long toId = productIds.get(productIds.size() - 1);
+
+            Map<Long, long[]> actual = new HashMap<>();
+            for (Object[] row : reviewRepository.countRatingsByProductIdBetween(fromId, toId)) {
+                int rating = ((Number) row[1]).intValue();
+                if (rating >= 1 && rating <= STARS) {
+                    actual.computeIfAbsent((Long) row[0], id -> new long[STARS])[rating - 1] =
+                            ((Number) row[2]).longValue();
+                }
+            }
+            Map<Long, RatingHistogram> stored = histogramRepository.findAllById(productIds).stream()
+                    .collect(Collectors.toMap(RatingHistogram::getProductId, Function.identity()));
+
+            for (Long productId : productIds) {
+                LongAdder[] counters = pending.get(productId);
+                if (counters != null && !isZero(counters)) {
+                    continue;
+                }
+                long[] counts = actual.getOrDefault(productId, new long[STARS]);
+                RatingHistogram histogram = stored.get(productId);
+                if (histogram == null) {
+                    // 리뷰가 없는 상품도 행을 만들어 조회가 reviews 집계로 넘어가지 않게 한다
+                    histogramRepository.insertEmpty(productId);
+                    if (Arrays.stream(counts).anyMatch(count -> count != 0)) {
+                        histogramRepository.applyDeltas(productId, counts[0], counts[1], counts[2], counts[3], counts[4]);
+                    }
+                } else if (!Arrays.equals(histogram.getCounts(), counts)) {
+                    histogram.setCounts(counts);
+                }
+            }
+            return products.size() < chunkSize ? null : toId;
+        });
+    }
+
+    // 분포 행이 없으면 0 건 갱신으로 끝난다 (reconcile 이 reviews 기준으로 만든다)
+    private void apply(Long productId, long[] deltas) {
+        histogramRepository.applyDeltas(productId, deltas[0], deltas[1], deltas[2], deltas[3], deltas[4]);
+    }
+
+    private long[] countFromReviews(Long productId) {
+        long[] counts = new long[STARS];
+        for (Object[] row : reviewRepository.countRatingsByProductId(productId)) {
+            int rating = ((Number) row[0]).intValue();
+            if (rating >= 1 && rating <= STARS) {
+                counts[rating - 1] = ((Number) row[1]).longValue();
+            }
+        }
+        return counts;
+    }
+
+    // 현재 값만큼 빼고 뺀 값을 반환 (모두 0 이면 null)
+    private long[] drain(LongAdder[] counters) {
+        long[] deltas = new long[STARS];
+        boolean any = false;
+        for (int i = 0; i < STARS; i++) {
+            long value = counters[i].sum();
+            if (value != 0) {
+                counters[i].add(-value);
+                deltas[i] = value;
+                any = true;
+            }
+        }
+        return any ? deltas : null;
+    }
+
+    private boolean isZero(LongAdder[] counters) {
+        for (LongAdder counter : counters) {
+            if (counter.sum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[STARS];
+        for (int i = 0; i < STARS; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
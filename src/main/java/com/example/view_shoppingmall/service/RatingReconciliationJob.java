@@ -0,0 +1,64 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 별점 합계/개수 및 별점 분포 정기 재계산 - 증감 누락 등으로 생긴 오차를 reviews 기준으로 보정한다.
+ * - 기동 시에도 별점 합계/개수와 분포를 한 번 맞춘다. 컬럼이 새로 추가된 기존 DB 는 모든 상품이 0 으로 시작하고,
+ *   분포 행이 없는 상품은 조회마다 reviews 를 집계하기 때문이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingReconciliationJob {
+
+    private final ReviewService reviewService;
+    private final RatingHistogramService ratingHistogramService;
+
+    @Value("${review.rating.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${review.rating.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    /**
+     * 기동 직후 재계산 - ApplicationReadyEvent 리스너가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로
+     * 준비 상태 확인을 거치는 트래픽은 보정이 끝난 뒤에 들어온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAtStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${review.rating.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        reconcileRatings();
+        reconcileHistograms();
+    }
+
+    private void reconcileRatings() {
+        long started = System.currentTimeMillis();
+        Long lastId = 0L;
+        while (lastId != null) {
+            lastId = reviewService.reconcileRatings(lastId, chunkSize);
+        }
+        log.info("별점 합계 재계산 완료: {}ms", System.currentTimeMillis() - started);
+    }
+
+    private void reconcileHistograms() {
+        long started = System.currentTimeMillis();
+        Long lastId = 0L;
+        while (lastId != null) {
+            lastId = ratingHistogramService.reconcile(lastId, chunkSize);
+        }
+        log.info("별점 분포 재계산 완료: {}ms", System.currentTimeMillis() - started);
+    }
+}
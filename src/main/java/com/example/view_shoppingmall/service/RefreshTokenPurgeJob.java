@@ -0,0 +1,23 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 refresh 토큰 기록 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 30 4 * * *}")
+    public void purge() {
+        int deleted = refreshTokenService.purgeExpired();
+        log.info("만료된 refresh 토큰 정리: {}건", deleted);
+    }
+}
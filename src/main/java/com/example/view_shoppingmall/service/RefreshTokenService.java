@@ -0,0 +1,148 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.TokenRefreshResponse;
+import com.example.view_shoppingmall.entity.RefreshToken;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.event.TokenFamiliesRevokedEvent;
+import com.example.view_shoppingmall.repository.RefreshTokenRepository;
+import com.example.view_shoppingmall.security.JwtTokenProvider;
+import com.example.view_shoppingmall.security.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh 토큰 발급/회전/폐기
+ * - 로그인할 때마다 새 토큰 패밀리를 만들고, refresh 할 때마다 같은 패밀리의 새 토큰으로 교체(회전)한다.
+ * - 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 패밀리 전체를 폐기한다.
+ * - 폐기된 패밀리 ID 는 메모리에도 유지해(기동 시 DB 에서 적재, 폐기 커밋 후 반영) refresh 와 API 요청마다
+ *   DB 조회 없이 확인한다. Access 토큰도 같은 패밀리 ID 를 담으므로 로그아웃 즉시 무효화된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 폐기된 패밀리 ID -> 이 시각 이후에는 패밀리의 모든 토큰이 만료되므로 확인할 필요 없음
+    private final Map<String, LocalDateTime> revokedFamilies = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void loadRevokedFamilies() {
+        for (Object[] row : refreshTokenRepository.findFamiliesByStatus(
+                RefreshToken.Status.REVOKED, LocalDateTime.now())) {
+            revokedFamilies.put((String) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("폐기된 토큰 패밀리 적재: {}건", revokedFamilies.size());
+    }
+
+    // 폐기된 패밀리인지 확인 (메모리 조회)
+    public boolean isRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    // 로그인 - 새 패밀리로 토큰 쌍 발급
+    @Transactional
+    public TokenRefreshResponse issue(User user) {
+        return issueInFamily(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * refresh - 사용한 토큰을 교체 상태로 바꾸고 같은 패밀리로 새 토큰 쌍 발급
+     * - 폐기됐거나, 이미 교체된 토큰을 재사용했거나, 발급 기록이 없는 토큰이면 null 을 반환한다.
+     */
+    @Transactional
+    public TokenRefreshResponse rotate(VerifiedToken token) {
+        if (token.getTokenId() == null || isRevoked(token.getFamilyId())) {
+            return null;
+        }
+
+        RefreshToken current = refreshTokenRepository.findWithUserByTokenId(token.getTokenId()).orElse(null);
+        if (current == null) {
+            return null;
+        }
+        if (refreshTokenRepository.transition(current.getId(),
+                RefreshToken.Status.ACTIVE, RefreshToken.Status.ROTATED) == 0) {
+            log.warn("교체된 refresh 토큰 재사용 - 패밀리 폐기: userId={}, familyId={}",
+                    current.getUser().getId(), current.getFamilyId());
+            revokeFamily(current.getFamilyId());
+            return null;
+        }
+        return issueInFamily(current.getUser(), current.getFamilyId());
+    }
+
+    // 로그아웃 - 토큰이 속한 패밀리 폐기
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (token.getFamilyId() != null) {
+            revokeFamily(token.getFamilyId());
+        }
+    }
+
+    // 모든 기기에서 로그아웃 - 사용자의 만료 전 패밀리 전체 폐기
+    @Transactional
+    public int revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = maxExpiresAt();
+        List<String> familyIds = refreshTokenRepository.findFamilyIdsByUserId(userId, now);
+        refreshTokenRepository.updateStatusByUserId(userId, RefreshToken.Status.REVOKED, now);
+        eventPublisher.publishEvent(new TokenFamiliesRevokedEvent(familyIds, until));
+        return familyIds.size();
+    }
+
+    // 만료된 토큰 기록과 폐기 목록 정리
+    @Transactional
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedFamilies.values().removeIf(until -> until.isBefore(now));
+        return refreshTokenRepository.deleteExpired(now);
+    }
+
+    // 폐기 커밋 후 메모리 폐기 목록에 반영 (롤백되면 DB 와 어긋나지 않도록 반영하지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onFamiliesRevoked(TokenFamiliesRevokedEvent event) {
+        event.getFamilyIds().forEach(familyId -> revokedFamilies.put(familyId, event.getUntil()));
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.updateStatusByFamilyId(familyId, RefreshToken.Status.REVOKED);
+        eventPublisher.publishEvent(new TokenFamiliesRevokedEvent(List.of(familyId), maxExpiresAt()));
+    }
+
+    private TokenRefreshResponse issueInFamily(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenId(tokenId);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(LocalDateTime.now().plus(tokenProvider.getRefreshExpirationMs(), ChronoUnit.MILLIS));
+        refreshTokenRepository.save(refreshToken);
+
+        return new TokenRefreshResponse(
+                tokenProvider.generateAccessToken(user, familyId),
+                tokenProvider.generateRefreshToken(user.getUsername(), tokenId, familyId));
+    }
+
+    // 지금 폐기하는 패밀리에서 나온 토큰이 모두 만료되는 시각
+    private LocalDateTime maxExpiresAt() {
+        return LocalDateTime.now().plus(tokenProvider.getRefreshExpirationMs(), ChronoUnit.MILLIS);
+    }
+}
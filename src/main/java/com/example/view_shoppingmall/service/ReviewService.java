@@ -1,18 +1,32 @@
 package com.example.view_shoppingmall.service;
 
+import com.example.view_shoppingmall.dto.CursorPage;
+import com.example.view_shoppingmall.dto.RatingHistogramDTO;
+import com.example.view_shoppingmall.dto.RatingSummaryDTO;
 import com.example.view_shoppingmall.dto.ReviewDTO;
 import com.example.view_shoppingmall.dto.ReviewRequestDTO;
+import com.example.view_shoppingmall.dto.ReviewSearchHitDTO;
 import com.example.view_shoppingmall.entity.Product;
 import com.example.view_shoppingmall.entity.Review;
 import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.event.ReviewChangedEvent;
 import com.example.view_shoppingmall.repository.ProductRepository;
 import com.example.view_shoppingmall.repository.ReviewRepository;
 import com.example.view_shoppingmall.repository.UserRepository;
+import com.example.view_shoppingmall.search.ReviewSearchIndex;
+import com.example.view_shoppingmall.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,27 +34,80 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final RatingHistogramService ratingHistogramService;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${review.page.default-size:10}")
+    private int defaultPageSize;
+
+    @Value("${review.page.max-size:50}")
+    private int maxPageSize;
+
+    @Value("${review.search.max-results:1000}")
+    private int maxSearchResults;
+
+    /**
+     * 상품별 리뷰 목록 조회 (최신순 커서 페이지네이션)
+     * - 작성자명까지 한 쿼리로 읽으므로 페이지 크기와 관계없이 페이지당 SELECT 한 번이다.
+     * - 작성 시각이 같은 리뷰가 페이지 경계에 걸려도 누락/중복되지 않도록 (createdAt, id) 를 커서로 쓴다.
+     */
+    public CursorPage<ReviewDTO> getReviewsByProductId(Long productId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CursorCodec.TimeId after = CursorCodec.decodeTimeId(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ReviewDTO> reviews = after == null
+                ? reviewRepository.findPageByProductId(productId, limit)
+                : reviewRepository.findPageByProductIdBefore(productId, after.time(), after.id(), limit);
+        return CursorPage.of(reviews, pageSize,
+                review -> CursorCodec.encodeTimeId(review.getCreatedAt(), review.getId()));
+    }
 
-    // 상품별 리뷰 목록 조회
-    public List<ReviewDTO> getReviewsByProductId(Long productId) {
-        List<Review> reviews = reviewRepository.findByProductIdOrderByCreatedAtDesc(productId);
-        return reviews.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    /**
+     * 상품 리뷰 본문 검색 (리뷰 색인 기반, 관련도순 페이지네이션)
+     * - 커서는 다음 페이지의 시작 위치이며, 각 결과에 본문 내 검색어 위치가 함께 담긴다.
+     */
+    public CursorPage<ReviewSearchHitDTO> searchReviews(Long productId, String keyword, String cursor, Integer size) {
+        List<ReviewSearchHitDTO> hits = reviewSearchIndex.search(productId, keyword, maxSearchResults);
+        return CursorPage.slice(hits, cursor, resolvePageSize(size));
+    }
+
+    // 별점 분포 조회
+    public RatingHistogramDTO getRatingHistogram(Long productId) {
+        return ratingHistogramService.getHistogram(productId);
     }
 
-    // 평균 별점 조회
-    public Double getAverageRating(Long productId) {
-        Double avgRating = reviewRepository.findAverageRatingByProductId(productId);
-        return avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0;
+    // 평균 별점 및 리뷰 개수 조회 (상품에 유지되는 합계/개수로 계산)
+    public RatingSummaryDTO getRatingSummary(Long productId) {
+        return productRepository.findRatingSummary(productId)
+                .orElseGet(() -> new RatingSummaryDTO(productId, 0.0, 0L));
     }
 
-    // 리뷰 개수 조회
-    public Long getReviewCount(Long productId) {
-        return reviewRepository.countByProductId(productId);
+    /**
+     * 여러 상품의 평균 별점 및 리뷰 개수 일괄 조회 (IN 조회 한 번)
+     * - 요청한 순서대로 반환하며, 존재하지 않는 상품 ID 는 결과에서 제외한다.
+     */
+    public List<RatingSummaryDTO> getRatingSummaries(List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        Map<Long, RatingSummaryDTO> summaries = productRepository.findRatingSummaries(ids).stream()
+                .collect(Collectors.toMap(RatingSummaryDTO::getProductId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // 리뷰 생성
@@ -69,7 +136,11 @@ public class ReviewService {
         review.setContent(requestDTO.getContent());
 
         Review savedReview = reviewRepository.save(review);
-        return convertToDTO(savedReview);
+        productRepository.applyRating(product.getId(), requestDTO.getRating(), 1);
+        ReviewDTO created = convertToDTO(savedReview);
+        eventPublisher.publishEvent(new ReviewChangedEvent(
+                ReviewChangedEvent.Type.CREATED, savedReview.getId(), product.getId(), savedReview.getRating(), created));
+        return created;
     }
 
     // 리뷰 삭제 (본인만 가능)
@@ -83,6 +154,47 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        productRepository.applyRating(review.getProduct().getId(), -review.getRating(), -1);
+        eventPublisher.publishEvent(new ReviewChangedEvent(
+                ReviewChangedEvent.Type.DELETED, review.getId(), review.getProduct().getId(), review.getRating(), null));
+    }
+
+    /**
+     * 별점 합계/개수 재계산 (상품 ID 순 한 청크)
+     * - reviews 테이블에서 다시 집계해 어긋난 상품만 보정하고, 마지막으로 처리한 상품 ID 를 반환한다.
+     * - 더 처리할 상품이 없으면 null 을 반환한다.
+     */
+    @Transactional
+    public Long reconcileRatings(Long afterId, int chunkSize) {
+        List<Object[]> products = productRepository.findRatingTotalsAfter(afterId, Limit.of(chunkSize));
+        if (products.isEmpty()) {
+            return null;
+        }
+        Long fromId = (Long) products.get(0)[0];
+        Long toId = (Long) products.get(products.size() - 1)[0];
+
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRatingsByProductIdBetween(fromId, toId)) {
+            actual.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        for (Object[] row : products) {
+            Long productId = (Long) row[0];
+            long storedSum = (Long) row[1];
+            long storedCount = (Long) row[2];
+            long[] totals = actual.getOrDefault(productId, new long[]{0L, 0L});
+            if (totals[0] != storedSum || totals[1] != storedCount) {
+                productRepository.correctRating(productId, totals[0], totals[1], storedSum, storedCount);
+            }
+        }
+        return products.size() < chunkSize ? null : toId;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
     }
 
     // Entity -> DTO 변환
@@ -0,0 +1,32 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 리뷰 접수 복구/정리 - 큐 초과 등으로 PENDING 에 남은 접수를 다시 큐에 넣고,
+ * 보관 기간이 지난 처리 완료 접수를 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSubmissionRecoveryJob {
+
+    private final ReviewSubmissionService reviewSubmissionService;
+
+    @Scheduled(fixedDelayString = "${review.async.recovery-interval:1m}")
+    public void recover() {
+        int recovered = reviewSubmissionService.recoverPending(reviewSubmissionService.recoveryThreshold());
+        if (recovered > 0) {
+            log.info("미처리 리뷰 접수 {}건을 다시 처리합니다.", recovered);
+        }
+    }
+
+    @Scheduled(cron = "${review.async.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        int purged = reviewSubmissionService.purgeProcessed();
+        log.info("처리 완료된 리뷰 접수 정리: {}건", purged);
+    }
+}
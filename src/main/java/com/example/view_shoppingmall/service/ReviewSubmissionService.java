@@ -0,0 +1,361 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.ReviewDTO;
+import com.example.view_shoppingmall.dto.ReviewRequestDTO;
+import com.example.view_shoppingmall.dto.ReviewSubmissionDTO;
+import com.example.view_shoppingmall.entity.Review;
+import com.example.view_shoppingmall.entity.ReviewSubmission;
+import com.example.view_shoppingmall.event.ReviewChangedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.ReviewRepository;
+import com.example.view_shoppingmall.repository.ReviewSubmissionRepository;
+import com.example.view_shoppingmall.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 리뷰 작성
+ * - 접수: 입력값만 검증하고 review_submissions(아웃박스)에 한 행을 쓴 뒤 ID 를 메모리 큐에 넣고 바로 응답한다.
+ *   같은 사용자의 같은 Idempotency-Key 재요청은 기존 접수 결과를 그대로 돌려준다.
+ * - 처리: 전용 writer 스레드가 큐에서 최대 batch-size 건씩 꺼내 한 트랜잭션으로 리뷰를 작성하고,
+ *   상품 별점 합계는 상품별로 합쳐 UPDATE 한 번만 실행한다.
+ * - 큐가 가득 찼거나 처리 전에 재시작된 접수는 PENDING 으로 남아 있다가 복구 작업이 다시 큐에 넣는다.
+ *   처리에 max-attempts 번 실패한 접수는 REJECTED 로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewSubmissionService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_CONTENT_LENGTH = 1000;
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final ReviewSubmissionRepository submissionRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${review.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${review.async.batch-size:100}")
+    private int batchSize;
+
+    @Value("${review.async.recovery-delay:30s}")
+    private Duration recoveryDelay;
+
+    @Value("${review.async.retention:7d}")
+    private Duration retention;
+
+    @Value("${review.async.max-attempts:5}")
+    private int maxAttempts;
+
+    private BlockingQueue<Long> queue;
+    // 큐에 들어 있거나 처리 중인 접수 ID (복구 작업이 같은 건을 중복으로 넣지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private Thread writer;
+    private volatile boolean running;
+
+    // 지표
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // 기동 후 writer 시작 및 이전에 처리하지 못한 접수 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::runWriter, "review-writer");
+        writer.setDaemon(true);
+        writer.start();
+        recoverPending(LocalDateTime.now());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 리뷰 접수 (아웃박스 기록 후 큐에 적재)
+     * - 상품 존재/중복 작성 여부는 writer 가 일괄 확인하고, 결과는 접수 상태로 알려준다.
+     */
+    public ReviewSubmissionDTO submit(ReviewRequestDTO request, Long userId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        if (request.getProductId() == null) {
+            throw new RuntimeException("상품 ID 가 필요합니다.");
+        }
+        if (request.getRating() == null || request.getRating() < 1 || request.getRating() > 5) {
+            throw new RuntimeException("별점은 1~5 사이여야 합니다.");
+        }
+        if (request.getContent() != null && request.getContent().length() > MAX_CONTENT_LENGTH) {
+            throw new RuntimeException("리뷰 내용은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Optional<ReviewSubmission> existing = submissionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        if (existing.isPresent()) {
+            return replay(existing.get(), request);
+        }
+
+        ReviewSubmission submission;
+        ReviewSubmission pending = new ReviewSubmission();
+        pending.setIdempotencyKey(idempotencyKey);
+        pending.setUserId(userId);
+        pending.setProductId(request.getProductId());
+        pending.setRating(request.getRating());
+        pending.setContent(request.getContent());
+        try {
+            submission = transactionTemplate.execute(status -> submissionRepository.save(pending));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 들어온 요청 - 먼저 기록된 접수를 돌려준다
+            return replay(submissionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .orElseThrow(() -> e), request);
+        }
+
+        acceptedCount.increment();
+        if (!enqueue(submission.getId())) {
+            // 큐가 가득 차도 아웃박스에 남아 있으므로 복구 작업이 처리한다
+            overflowCount.increment();
+        }
+        return ReviewSubmissionDTO.from(submission);
+    }
+
+    // 접수 상태 조회 (본인 접수만)
+    public ReviewSubmissionDTO getSubmission(Long id, Long userId) {
+        ReviewSubmission submission = submissionRepository.findById(id)
+                .filter(s -> s.getUserId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("리뷰 접수 내역을 찾을 수 없습니다."));
+        return ReviewSubmissionDTO.from(submission);
+    }
+
+    /**
+     * 지정 시각 이전에 접수되어 아직 PENDING 인 건을 다시 큐에 넣는다.
+     * - 이미 큐에 있거나 처리 중인 건은 건너뛴다 (처리가 밀려도 같은 ID 로 큐가 차지 않도록).
+     */
+    public int recoverPending(LocalDateTime before) {
+        if (queue == null) {
+            return 0;
+        }
+        int recovered = 0;
+        for (Long id : submissionRepository.findIdsByStatusAndCreatedAtBefore(
+                ReviewSubmission.Status.PENDING, before, Limit.of(queueCapacity))) {
+            if (inFlight.contains(id)) {
+                continue;
+            }
+            if (!enqueue(id)) {
+                break;
+            }
+            recovered++;
+        }
+        return recovered;
+    }
+
+    // 복구 대상 기준 시각 (막 접수되어 큐에 들어 있을 건은 제외)
+    public LocalDateTime recoveryThreshold() {
+        return LocalDateTime.now().minus(recoveryDelay);
+    }
+
+    // 보관 기간이 지난 처리 완료 접수 정리
+    public int purgeProcessed() {
+        return transactionTemplate.execute(status -> submissionRepository.deleteProcessedBefore(
+                ReviewSubmission.Status.PENDING, LocalDateTime.now().minus(retention)));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueSize", queue == null ? 0 : queue.size());
+        stats.put("inFlight", inFlight.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("accepted", acceptedCount.sum());
+        stats.put("overflowed", overflowCount.sum());
+        stats.put("completed", completedCount.sum());
+        stats.put("rejected", rejectedCount.sum());
+        return stats;
+    }
+
+    private void runWriter() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 처리하지 못한 건은 PENDING 으로 남아 복구 작업이 다시 넣는다
+                log.warn("리뷰 접수 처리 실패 ({}건): {}", batch.size(), e.getMessage());
+            } finally {
+                batch.forEach(inFlight::remove);
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐에 넣기 (넣지 못하면 false)
+    private boolean enqueue(Long id) {
+        if (queue == null || !inFlight.add(id)) {
+            return false;
+        }
+        if (!queue.offer(id)) {
+            inFlight.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 접수 묶음 처리 - 한 트랜잭션으로 처리하고, 실패하면 한 건씩 다시 처리해 문제 건만 남긴다.
+     * - 한 건씩 처리해도 실패한 접수는 실패 횟수를 기록하고, max-attempts 에 도달하면 거절한다.
+     */
+    void process(List<Long> ids) {
+        try {
+            count(transactionTemplate.execute(status -> write(ids)));
+        } catch (RuntimeException e) {
+            if (ids.size() == 1) {
+                recordFailure(ids.get(0), e);
+                return;
+            }
+            for (Long id : ids) {
+                try {
+                    count(transactionTemplate.execute(status -> write(List.of(id))));
+                } catch (RuntimeException single) {
+                    recordFailure(id, single);
+                }
+            }
+        }
+    }
+
+    // 실패 횟수 기록 (기록도 실패하면 PENDING 으로 남아 복구 작업이 다시 넣는다)
+    private void recordFailure(Long id, RuntimeException cause) {
+        log.warn("리뷰 접수 처리 실패: id={}, {}", id, cause.getMessage());
+        String message = Objects.toString(cause.getMessage(), cause.getClass().getSimpleName());
+        String lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        try {
+            Boolean rejected = transactionTemplate.execute(status -> submissionRepository.findById(id)
+                    .filter(s -> s.getStatus() == ReviewSubmission.Status.PENDING)
+                    .map(s -> s.fail(lastError, maxAttempts))
+                    .orElse(false));
+            if (Boolean.TRUE.equals(rejected)) {
+                rejectedCount.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("리뷰 접수 실패 횟수 기록 실패: id={}, {}", id, e.getMessage());
+        }
+    }
+
+    // 커밋된 처리 결과만 지표에 반영
+    private void count(int[] result) {
+        completedCount.add(result[0]);
+        rejectedCount.add(result[1]);
+    }
+
+    // 접수 묶음 기록 - [작성 건수, 거절 건수] 반환
+    private int[] write(List<Long> ids) {
+        List<ReviewSubmission> submissions = submissionRepository.findAllById(ids).stream()
+                .filter(s -> s.getStatus() == ReviewSubmission.Status.PENDING)
+                .sorted(Comparator.comparing(ReviewSubmission::getId))
+                .toList();
+        if (submissions.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ReviewSubmission submission : submissions) {
+            productIds.add(submission.getProductId());
+            userIds.add(submission.getUserId());
+        }
+        Set<Long> existingProducts = new HashSet<>(productRepository.findExistingIds(productIds));
+        Map<Long, String> usernames = new HashMap<>();
+        for (Object[] row : userRepository.findUsernames(userIds)) {
+            usernames.put((Long) row[0], (String) row[1]);
+        }
+        Set<String> reviewed = new HashSet<>();
+        for (Object[] pair : reviewRepository.findReviewedPairs(productIds, userIds)) {
+            reviewed.add(pair[0] + ":" + pair[1]);
+        }
+
+        int completed = 0;
+        int rejected = 0;
+        Map<Long, long[]> ratingDeltas = new HashMap<>();
+        for (ReviewSubmission submission : submissions) {
+            if (!existingProducts.contains(submission.getProductId())) {
+                submission.reject("상품을 찾을 수 없습니다.");
+                rejected++;
+                continue;
+            }
+            // 같은 묶음 안의 중복 접수도 여기서 걸러진다
+            if (!reviewed.add(submission.getProductId() + ":" + submission.getUserId())) {
+                submission.reject("이미 이 상품에 리뷰를 작성하셨습니다.");
+                rejected++;
+                continue;
+            }
+
+            Review review = new Review();
+            review.setProduct(productRepository.getReferenceById(submission.getProductId()));
+            review.setUser(userRepository.getReferenceById(submission.getUserId()));
+            review.setRating(submission.getRating());
+            review.setContent(submission.getContent());
+            reviewRepository.save(review);
+
+            submission.complete(review.getId());
+            completed++;
+            long[] delta = ratingDeltas.computeIfAbsent(submission.getProductId(), id -> new long[2]);
+            delta[0] += submission.getRating();
+            delta[1]++;
+            ReviewDTO created = new ReviewDTO(review.getId(), submission.getProductId(), submission.getUserId(),
+                    usernames.get(submission.getUserId()), review.getRating(), review.getContent(), review.getCreatedAt());
+            eventPublisher.publishEvent(new ReviewChangedEvent(
+                    ReviewChangedEvent.Type.CREATED, review.getId(), submission.getProductId(), submission.getRating(), created));
+        }
+
+        ratingDeltas.forEach((productId, delta) -> productRepository.applyRating(productId, delta[0], delta[1]));
+        return new int[]{completed, rejected};
+    }
+
+    // 같은 키 재요청 - 내용이 다르면 다른 요청에 키를 재사용한 것으로 보고 거절
+    private ReviewSubmissionDTO replay(ReviewSubmission submission, ReviewRequestDTO request) {
+        boolean same = submission.getProductId().equals(request.getProductId())
+                && submission.getRating().equals(request.getRating())
+                && Objects.equals(submission.getContent(), request.getContent());
+        if (!same) {
+            throw new RuntimeException("같은 Idempotency-Key 로 다른 리뷰가 이미 접수되었습니다.");
+        }
+        return ReviewSubmissionDTO.from(submission);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 만료된 재고 예약 정리 - 확정되지 않은 채 TTL 이 지난 예약의 재고를 되돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationExpiryJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final StockReservationService stockReservationService;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval:30s}")
+    public void expireReservations() {
+        List<Long> expiredIds;
+        int expired;
+        do {
+            expiredIds = stockReservationService.findExpiredReservationIds(BATCH_SIZE);
+            expired = 0;
+            for (Long reservationId : expiredIds) {
+                try {
+                    stockReservationService.expire(reservationId);
+                    expired++;
+                } catch (RuntimeException e) {
+                    log.warn("재고 예약 만료 처리 실패: id={}, {}", reservationId, e.getMessage());
+                }
+            }
+            // 한 건도 처리하지 못했으면 같은 목록을 반복 조회하지 않도록 다음 주기로 넘긴다
+        } while (expiredIds.size() == BATCH_SIZE && expired > 0);
+    }
+}
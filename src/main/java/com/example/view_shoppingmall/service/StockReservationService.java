@@ -0,0 +1,165 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.StockReservationDTO;
+import com.example.view_shoppingmall.dto.StockReservationRequest;
+import com.example.view_shoppingmall.entity.StockReservation;
+import com.example.view_shoppingmall.event.ProductChangedEvent;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.StockReservationRepository;
+import com.example.view_shoppingmall.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 예약 (예약 -> 확정 / 해제, 미확정 예약은 TTL 후 자동 만료)
+ * - 재고 차감은 "stock >= 수량" 조건부 UPDATE 한 번으로 처리해 읽고-수정-쓰기 경합 없이 초과 판매를 막는다.
+ * - 예약 상태 전이도 현재 상태를 조건으로 한 UPDATE 라서 확정/해제/만료가 겹쳐도 재고는 한 번만 복구된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockReservationService {
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${stock.reservation.ttl:10m}")
+    private Duration reservationTtl;
+
+    // 재고 예약
+    @Transactional
+    public StockReservationDTO reserve(StockReservationRequest request, Long userId) {
+        if (request.getProductId() == null || request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new RuntimeException("예약 수량은 1 이상이어야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (productRepository.decreaseStock(request.getProductId(), request.getQuantity(), now) == 0) {
+            if (!productRepository.existsById(request.getProductId())) {
+                throw new RuntimeException("상품을 찾을 수 없습니다.");
+            }
+            throw new RuntimeException("재고가 부족합니다.");
+        }
+
+        StockReservation reservation = new StockReservation();
+        reservation.setProduct(productRepository.getReferenceById(request.getProductId()));
+        reservation.setUser(userRepository.getReferenceById(userId));
+        reservation.setQuantity(request.getQuantity());
+        reservation.setStatus(StockReservation.Status.RESERVED);
+        reservation.setExpiresAt(now.plus(reservationTtl));
+
+        StockReservation saved = reservationRepository.save(reservation);
+        publishStockChanged(request.getProductId());
+        return convertToDTO(saved, request.getProductId());
+    }
+
+    /**
+     * 재고 증감 조정 (입고/실사 보정) - 조건부 UPDATE 로 반영해 그 사이 커밋된 예약 차감을 덮어쓰지 않는다.
+     * @return 조정 후 재고
+     */
+    @Transactional
+    public int adjustStock(Long productId, Integer delta) {
+        if (delta == null || delta == 0) {
+            throw new RuntimeException("조정 수량은 0 이 아니어야 합니다.");
+        }
+
+        if (productRepository.adjustStock(productId, delta, LocalDateTime.now()) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new RuntimeException("상품을 찾을 수 없습니다.");
+            }
+            throw new RuntimeException("재고가 부족합니다.");
+        }
+
+        publishStockChanged(productId);
+        return productRepository.findStockById(productId).orElseThrow();
+    }
+
+    // 예약 확정 (만료 전, 본인만 가능)
+    @Transactional
+    public StockReservationDTO commit(Long reservationId, Long userId) {
+        StockReservation reservation = findOwnReservation(reservationId, userId);
+
+        int updated = reservationRepository.transitionIfNotExpired(reservationId,
+                StockReservation.Status.RESERVED, StockReservation.Status.COMMITTED, LocalDateTime.now());
+        if (updated == 0) {
+            throw new RuntimeException("이미 처리되었거나 만료된 예약입니다.");
+        }
+
+        reservation.setStatus(StockReservation.Status.COMMITTED);
+        return convertToDTO(reservation, reservation.getProduct().getId());
+    }
+
+    // 예약 해제 (본인만 가능)
+    @Transactional
+    public void release(Long reservationId, Long userId) {
+        StockReservation reservation = findOwnReservation(reservationId, userId);
+
+        if (!restore(reservation, StockReservation.Status.RELEASED)) {
+            throw new RuntimeException("이미 처리되었거나 만료된 예약입니다.");
+        }
+    }
+
+    // 만료된 예약 조회 (정리 작업용)
+    public List<Long> findExpiredReservationIds(int limit) {
+        return reservationRepository.findByStatusAndExpiresAtBeforeOrderByIdAsc(
+                        StockReservation.Status.RESERVED, LocalDateTime.now(), Limit.of(limit)).stream()
+                .map(StockReservation::getId)
+                .toList();
+    }
+
+    // 예약 만료 처리
+    @Transactional
+    public void expire(Long reservationId) {
+        reservationRepository.findById(reservationId)
+                .ifPresent(reservation -> restore(reservation, StockReservation.Status.EXPIRED));
+    }
+
+    // RESERVED -> 목표 상태 전이에 성공한 경우에만 재고 복구
+    private boolean restore(StockReservation reservation, StockReservation.Status target) {
+        int updated = reservationRepository.transition(reservation.getId(),
+                StockReservation.Status.RESERVED, target);
+        if (updated == 0) {
+            return false;
+        }
+
+        Long productId = reservation.getProduct().getId();
+        productRepository.increaseStock(productId, reservation.getQuantity(), LocalDateTime.now());
+        publishStockChanged(productId);
+        return true;
+    }
+
+    private StockReservation findOwnReservation(Long reservationId, Long userId) {
+        StockReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+        if (!reservation.getUser().getId().equals(userId)) {
+            throw new RuntimeException("본인의 예약만 처리할 수 있습니다.");
+        }
+        return reservation;
+    }
+
+    // 재고 변경 이벤트 (커밋 후 상품 캐시 무효화)
+    private void publishStockChanged(Long productId) {
+        String category = productRepository.findCategoryById(productId).orElse(null);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ProductChangedEvent.Type.STOCK_CHANGED, productId, null, category));
+    }
+
+    private StockReservationDTO convertToDTO(StockReservation reservation, Long productId) {
+        return new StockReservationDTO(
+                reservation.getId(),
+                productId,
+                reservation.getQuantity(),
+                reservation.getStatus().name(),
+                reservation.getExpiresAt());
+    }
+}
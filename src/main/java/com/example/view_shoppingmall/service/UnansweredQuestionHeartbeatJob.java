@@ -0,0 +1,20 @@
+package com.example.view_shoppingmall.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미답변 질문 실시간 알림 연결 유지 - 주기적으로 주석 이벤트를 보내 끊긴 구독자를 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnansweredQuestionHeartbeatJob {
+
+    private final UnansweredQuestionStream unansweredQuestionStream;
+
+    @Scheduled(fixedDelayString = "${qna.stream.heartbeat-interval:30s}")
+    public void heartbeat() {
+        unansweredQuestionStream.heartbeat();
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.event.QuestionChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 미답변 질문 대기열 실시간 알림 (SSE)
+ * - 질문 작성이 커밋되면 "question", 답변/삭제로 대기열에서 빠지면 "removed" 이벤트를 구독자 전체에 보낸다.
+ * - 이벤트는 한 번만 직렬화하고, 구독자마다 크기가 제한된 버퍼에 넣은 뒤 전송 스레드가 비운다.
+ * - 느린 구독자의 버퍼가 가득 차면 가장 오래된 이벤트를 버려 질문 작성을 막지 않는다.
+ * - emitter.send 는 블로킹 쓰기이므로, 버퍼를 비우는 동안에는 구독자마다 전송 스레드를 하나씩 쓴다.
+ *   멈춘 클라이언트는 자기 스레드만 붙잡고 다른 구독자의 전송은 막지 않는다.
+ * - 구독 자리는 전송 스레드가 끝날 때 반납하므로, 바쁜 전송 스레드 수는 구독자 수 상한을 넘지 않는다.
+ * - 한 번의 전송이 send-timeout 을 넘기면 heartbeat 때 구독을 끊고, 멈춘 send 가 끝나면 자리를 반납한다.
+ */
+@Slf4j
+@Component
+public class UnansweredQuestionStream {
+
+    public static final String EVENT_QUESTION = "question";
+    public static final String EVENT_REMOVED = "removed";
+
+    @Value("${qna.stream.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${qna.stream.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${qna.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${qna.stream.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 구독 자리 - subscribe 에서 잡고, 구독이 끝나고 전송 스레드도 끝났을 때 한 번만 반납한다
+    private Semaphore slots;
+    private ExecutorService sender;
+
+    // 지표
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        slots = new Semaphore(maxSubscribers);
+        AtomicInteger sequence = new AtomicInteger();
+        // 필요할 때만 스레드를 만든다 (구독자당 전송 작업은 최대 하나이고 자리를 쥔 동안만 돌므로 구독 자리가 상한 역할)
+        sender = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "qna-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 구독 등록 - 연결 직후 헤더가 바로 나가도록 주석 이벤트를 하나 보낸다.
+     */
+    public SseEmitter subscribe() {
+        if (!slots.tryAcquire()) {
+            throw new RuntimeException("실시간 알림 구독자 수가 한도에 도달했습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(e -> subscriber.remove());
+        subscribers.add(subscriber);
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    // 질문 변경 커밋 후 구독자에게 알림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (event.getType() == QuestionChangedEvent.Type.CREATED) {
+            broadcast(SseEmitter.event()
+                    .name(EVENT_QUESTION)
+                    .id(String.valueOf(event.getQuestionId()))
+                    .data(event.getQuestion(), MediaType.APPLICATION_JSON)
+                    .build());
+        } else {
+            broadcast(SseEmitter.event()
+                    .name(EVENT_REMOVED)
+                    .data(Map.of("id", event.getQuestionId()), MediaType.APPLICATION_JSON)
+                    .build());
+        }
+    }
+
+    // 연결 유지 및 끊긴 구독자 정리용 주석 이벤트 (전송이 send-timeout 을 넘긴 구독자는 끊는다)
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeout.toNanos()) {
+                timedOutCount.increment();
+                subscriber.expire();
+            }
+        }
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("ping").build());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("maxSubscribers", maxSubscribers);
+        stats.put("availableSlots", slots.availablePermits());
+        stats.put("bufferSize", bufferSize);
+        stats.put("published", publishedCount.sum());
+        stats.put("sent", sentCount.sum());
+        stats.put("dropped", droppedCount.sum());
+        stats.put("timedOut", timedOutCount.sum());
+        return stats;
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        publishedCount.increment();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 구독자별 전송 버퍼 - 한 구독자에 대해 전송 작업은 동시에 하나만 실행되어 이벤트 순서가 유지된다.
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Set<ResponseBodyEmitter.DataWithMediaType>> buffer = new ArrayDeque<>();
+        private boolean removed = false;
+        // send-timeout 으로 끊긴 구독 (자리 반납 시 오류로 완료)
+        private boolean expired = false;
+        private boolean draining = false;
+        // 진행 중인 전송 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 버퍼에 추가 (가득 차면 가장 오래된 이벤트를 버림)
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            synchronized (this) {
+                if (removed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedCount.increment();
+                }
+                buffer.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RuntimeException e) {
+                // 종료 중이면 구독을 끊는다 (전송 작업이 없으므로 자리는 remove 에서 반납)
+                synchronized (this) {
+                    draining = false;
+                }
+                close();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                synchronized (this) {
+                    event = removed ? null : buffer.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        if (!removed) {
+                            return;
+                        }
+                    }
+                }
+                if (event == null) {
+                    // 전송 중에 구독이 끝났으면 전송 스레드가 자리를 반납한다
+                    release();
+                    return;
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    emitter.send(event);
+                    sentCount.increment();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("미답변 질문 알림 구독 종료: {}", e.getMessage());
+                    close();
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        private void remove() {
+            remove(false);
+        }
+
+        // 구독 목록에서 빼기 (여러 경로에서 불려도 한 번만, 전송 중이면 자리 반납은 전송 스레드가 끝날 때)
+        private void remove(boolean timedOut) {
+            boolean idle;
+            synchronized (this) {
+                if (removed) {
+                    return;
+                }
+                removed = true;
+                expired = timedOut;
+                buffer.clear();
+                idle = !draining;
+            }
+            subscribers.remove(this);
+            if (idle) {
+                release();
+            }
+        }
+
+        // 자리 반납 - remove 또는 전송 스레드 종료 중 한 곳에서만 불린다
+        private void release() {
+            slots.release();
+            if (expired) {
+                emitter.completeWithError(new TimeoutException("SSE 전송 시간 초과"));
+            }
+        }
+
+        private void close() {
+            remove();
+            emitter.complete();
+        }
+
+        /**
+         * 전송이 멈춘 구독 종료 - 바로 구독 목록에서 빼서 더 이상 이벤트를 쌓지 않는다.
+         * 멈춘 send 가 emitter 잠금을 쥐고 있으므로 completeWithError 와 자리 반납은 send 가 끝난 전송 스레드가 한다
+         * (컨테이너 쓰기 시간 초과로 send 가 실패하면 그때 정리된다).
+         */
+        private void expire() {
+            remove(true);
+            log.debug("미답변 질문 알림 전송 지연으로 구독 종료");
+        }
+    }
+}
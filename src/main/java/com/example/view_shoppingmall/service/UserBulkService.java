@@ -0,0 +1,227 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.BulkImportResult;
+import com.example.view_shoppingmall.dto.SignupRequest;
+import com.example.view_shoppingmall.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 사용자 대량 등록 (제휴몰 회원 이전용)
+ * - 요청 본문(NDJSON: {"username","email","password"})을 한 행씩 읽어 검증하고 chunk-size 단위로 처리한다.
+ * - 청크마다 사용자명/이메일 중복을 IN 조회 두 번으로 확인하고,
+ *   비밀번호 해시(BCrypt)는 전용 풀에서 코어 수만큼 병렬로 계산한 뒤 JDBC 배치로 INSERT 한다.
+ * - 청크 INSERT 중 그 사이 가입한 사용자와 겹치면 해당 청크만 한 행씩 다시 넣어 실패한 행을 보고한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserBulkService {
+
+    private static final String INSERT_SQL = "INSERT INTO users (username, password, email, role, created_at) "
+            + "VALUES (?, ?, ?, 'USER', ?)";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${user.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${user.bulk.hash-threads:0}")
+    private int hashThreads;
+
+    // 비밀번호 해시 전용 풀 (공용 ForkJoinPool 을 점유하지 않도록 분리)
+    private ForkJoinPool hashPool;
+
+    @PostConstruct
+    public void init() {
+        hashPool = new ForkJoinPool(hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    // NDJSON (한 줄에 사용자 JSON 하나) 대량 등록
+    public BulkImportResult importNdjson(InputStream in) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        try {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+                try {
+                    SignupRequest user = objectMapper.readValue(line, SignupRequest.class);
+                    String error = validate(user);
+                    if (error != null) {
+                        result.addError(lineNumber, error);
+                        continue;
+                    }
+                    chunk.add(new Row(lineNumber, user));
+                    if (chunk.size() >= chunkSize) {
+                        flush(chunk, result);
+                    }
+                } catch (JsonProcessingException e) {
+                    result.addError(lineNumber, "JSON 형식이 올바르지 않습니다.");
+                }
+            }
+        } catch (IOException e) {
+            // 연결 끊김 등으로 본문 읽기가 중단되면 그때까지 읽은 행만 반영
+            result.addError(lineNumber + 1, "요청 본문을 끝까지 읽지 못했습니다.");
+        } finally {
+            flush(chunk, result);
+        }
+        return result;
+    }
+
+    // 회원가입과 같은 제약(SignupRequest) + 컬럼 길이 검증
+    private String validate(SignupRequest user) {
+        // "null" 같은 JSON 객체가 아닌 행
+        if (user == null) {
+            return "사용자 정보는 JSON 객체여야 합니다.";
+        }
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (user.getEmail().length() > 100) {
+            return "이메일은 100자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    // 청크 중복 확인 -> 병렬 해시 -> 배치 INSERT (청크 처리 실패는 해당 행들의 오류로 보고하고 계속)
+    private void flush(List<Row> chunk, BulkImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Row> accepted;
+            try {
+                accepted = rejectDuplicates(chunk, result);
+            } catch (RuntimeException e) {
+                chunk.forEach(row -> result.addError(row.line, "사용자를 등록하지 못했습니다."));
+                return;
+            }
+            try {
+                hashPasswords(accepted);
+            } catch (RuntimeException e) {
+                accepted.forEach(row -> result.addError(row.line, "사용자를 등록하지 못했습니다."));
+                return;
+            }
+            insert(accepted, result);
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    // DB 에 이미 있거나 같은 청크 안에서 겹치는 사용자명/이메일 제외
+    private List<Row> rejectDuplicates(List<Row> chunk, BulkImportResult result) {
+        Set<String> usernames = new HashSet<>(userRepository.findExistingUsernames(
+                chunk.stream().map(row -> row.user.getUsername()).toList()));
+        Set<String> emails = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(row -> row.user.getEmail()).toList()));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (!usernames.add(row.user.getUsername())) {
+                result.addError(row.line, "이미 사용 중인 사용자명입니다.");
+            } else if (!emails.add(row.user.getEmail())) {
+                result.addError(row.line, "이미 사용 중인 이메일입니다.");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private void hashPasswords(List<Row> rows) {
+        try {
+            hashPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.passwordHash = passwordEncoder.encode(row.user.getPassword())))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("비밀번호 처리에 실패했습니다.", e.getCause());
+        }
+    }
+
+    // 청크를 한 트랜잭션에서 JDBC 배치로 INSERT (중복 키 충돌 등 실패 시 한 행씩 재시도)
+    private void insert(List<Row> rows, BulkImportResult result) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                        ps.setString(1, row.user.getUsername());
+                        ps.setString(2, row.passwordHash);
+                        ps.setString(3, row.user.getEmail());
+                        ps.setTimestamp(4, now);
+                    }));
+            result.setImported(result.getImported() + rows.size());
+        } catch (DataAccessException | TransactionException e) {
+            for (Row row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row.user.getUsername(), row.passwordHash, row.user.getEmail(), now);
+                    result.setImported(result.getImported() + 1);
+                } catch (DataIntegrityViolationException rowError) {
+                    result.addError(row.line, "이미 사용 중인 사용자명 또는 이메일입니다.");
+                } catch (DataAccessException rowError) {
+                    result.addError(row.line, "사용자를 등록하지 못했습니다.");
+                }
+            }
+        }
+    }
+
+    // 요청 행 (해시는 병렬 단계에서 채운다)
+    private static class Row {
+        private final long line;
+        private final SignupRequest user;
+        private String passwordHash;
+
+        private Row(long line, SignupRequest user) {
+            this.line = line;
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.view_shoppingmall.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 리더 (RFC 4180)
+ * - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/이스케이프("")를 처리한다.
+ * - 한 번에 한 레코드만 메모리에 올린다.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private long line = 1;
+    private long recordLine = 1;
+    private int pushback = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드 (더 이상 없으면 null)
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLine + "행: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // 마지막으로 읽은 레코드가 시작된 행 번호
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    // CSV 필드 이스케이프
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+}
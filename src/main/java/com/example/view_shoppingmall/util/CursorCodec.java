@@ -0,0 +1,110 @@
+package com.example.view_shoppingmall.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 페이지네이션 커서 인코딩/디코딩
+ * - 클라이언트에는 내부 키 구조가 드러나지 않도록 URL-safe Base64 문자열로 내려준다.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+    // 위치(offset) 커서 표시 - ID 커서와 섞여 들어와도 구분할 수 있도록 접두사를 붙인다
+    private static final String OFFSET_PREFIX = "o" + SEPARATOR;
+
+    private CursorCodec() {
+    }
+
+    // ID 하나로 이루어진 커서 생성
+    public static String encodeId(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    // ID 커서 해석 (cursor 가 없으면 null)
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    // (시각, ID) 복합 키 커서 생성 - 시각 내림차순 + 동시각 ID 내림차순 목록용
+    public static String encodeTimeId(LocalDateTime time, Long id) {
+        return encode(time + SEPARATOR + id);
+    }
+
+    // (시각, ID) 커서 해석 (cursor 가 없으면 null)
+    public static TimeId decodeTimeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = decode(cursor);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new TimeId(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    // 결과 목록 내 위치 커서 생성 - 관련도순처럼 키로 이어 읽을 수 없는 목록용
+    public static String encodeOffset(int offset) {
+        return encode(OFFSET_PREFIX + offset);
+    }
+
+    // 위치 커서 해석 (cursor 가 없으면 0, 음수/ID 커서는 잘못된 커서)
+    public static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = decode(cursor);
+            if (!raw.startsWith(OFFSET_PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(raw.substring(OFFSET_PREFIX.length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+
+    // 위치 커서 여부 (cursor 가 없으면 false)
+    public static boolean isOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return false;
+        }
+        try {
+            return decode(cursor).startsWith(OFFSET_PREFIX);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    // (시각, ID) 커서 키
+    public record TimeId(LocalDateTime time, Long id) {
+    }
+}
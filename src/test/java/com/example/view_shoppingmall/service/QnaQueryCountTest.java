@@ -0,0 +1,197 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.config.CacheConfig;
+import com.example.view_shoppingmall.dto.AnswerRequestDTO;
+import com.example.view_shoppingmall.dto.CursorPage;
+import com.example.view_shoppingmall.dto.QuestionDTO;
+import com.example.view_shoppingmall.entity.Question;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.repository.AnswerRepository;
+import com.example.view_shoppingmall.repository.QuestionRepository;
+import com.example.view_shoppingmall.repository.UserRepository;
+import com.example.view_shoppingmall.search.QuestionSearchIndex;
+import com.example.view_shoppingmall.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.view_shoppingmall.support.SqlStatementCounter.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Q&A 조회 API 별 쿼리 수 고정 - 작성자/답변 지연 로딩으로 쿼리가 늘어나지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QnaQueryCountTest {
+
+    private static final int QUESTIONS = 15;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private QnaService qnaService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QuestionSearchIndex questionSearchIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 질문마다 작성자가 다르도록 저장
+        for (int i = 0; i < QUESTIONS; i++) {
+            User user = TestUsers.save(userRepository, "asker-");
+            users.add(user);
+            Question question = new Question();
+            question.setUser(user);
+            question.setTitle((i % 5 == 0 ? "교환 문의 " : "배송 문의 ") + i);
+            question.setContent("언제 받을 수 있나요? " + i);
+            question.setIsAnswered(false);
+            Question saved = questionRepository.save(question);
+            // 리포지토리로 직접 저장한 질문은 이벤트가 없으므로 색인에 직접 반영
+            questionSearchIndex.put(saved.getId(), saved.getTitle(), saved.getContent(), null, saved.getCreatedAt());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionRepository.findAll().forEach(question -> questionSearchIndex.remove(question.getId()));
+        answerRepository.deleteAll();
+        questionRepository.deleteAll();
+        userRepository.deleteAll();
+        users.clear();
+    }
+
+    @Test
+    void questionListPageRunsContentAndCountQueriesOnly() {
+        Page<QuestionDTO> first = assertStatementCount(2, () -> qnaService.getQuestions(0, PAGE_SIZE));
+        assertThat(first.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(question -> assertThat(question.getUsername()).isNotBlank());
+        assertThat(first.getTotalElements()).isEqualTo(QUESTIONS);
+
+        // 마지막 페이지는 건수를 알 수 있으므로 count 쿼리도 생략된다
+        Page<QuestionDTO> last = assertStatementCount(1, () -> qnaService.getQuestions(1, PAGE_SIZE));
+        assertThat(last.getContent()).hasSize(QUESTIONS - PAGE_SIZE);
+    }
+
+    @Test
+    void feedPagesRunSingleQueryWithoutCount() {
+        CursorPage<QuestionDTO> first = assertStatementCount(1, () -> qnaService.getQuestionsByCursor(null, PAGE_SIZE));
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorPage<QuestionDTO> second = assertStatementCount(1,
+                () -> qnaService.getQuestionsByCursor(first.getNextCursor(), PAGE_SIZE));
+        assertThat(second.getContent()).hasSize(QUESTIONS - PAGE_SIZE);
+        assertThat(second.isHasNext()).isFalse();
+
+        List<QuestionDTO> all = new ArrayList<>(first.getContent());
+        all.addAll(second.getContent());
+        assertThat(all.stream().map(QuestionDTO::getId).distinct()).hasSize(QUESTIONS);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(QuestionDTO::getCreatedAt)
+                .thenComparing(QuestionDTO::getId).reversed());
+    }
+
+    @Test
+    void unansweredQueuePagesRunSingleQueryOldestFirst() {
+        User admin = TestUsers.save(userRepository, "admin-", "ADMIN");
+        QuestionDTO answered = questionRepository.findDTOsByUserId(users.get(0).getId()).get(0);
+        qnaService.createAnswer(answered.getId(), new AnswerRequestDTO("확인했습니다."), admin.getId());
+
+        CursorPage<QuestionDTO> first = assertStatementCount(1, () -> qnaService.getUnansweredQuestions(null, PAGE_SIZE));
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(first.isHasNext()).isTrue();
+
+        CursorPage<QuestionDTO> second = assertStatementCount(1,
+                () -> qnaService.getUnansweredQuestions(first.getNextCursor(), PAGE_SIZE));
+        assertThat(second.isHasNext()).isFalse();
+
+        List<QuestionDTO> all = new ArrayList<>(first.getContent());
+        all.addAll(second.getContent());
+        assertThat(all).hasSize(QUESTIONS - 1)
+                .allSatisfy(question -> assertThat(question.getIsAnswered()).isFalse())
+                .isSortedAccordingTo(Comparator.comparing(QuestionDTO::getCreatedAt)
+                        .thenComparing(QuestionDTO::getId));
+    }
+
+    @Test
+    void indexedSearchPageRunsSingleQueryWithoutCount() {
+        Page<QuestionDTO> page = assertStatementCount(1, () -> qnaService.searchQuestions("배송", 0, PAGE_SIZE));
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(question -> assertThat(question.getUsername()).isNotBlank());
+        assertThat(page.getTotalElements()).isEqualTo(12);
+
+        // 점수가 같으면 최신 질문이 먼저 온다
+        assertThat(page.getContent()).isSortedAccordingTo(Comparator.comparing(QuestionDTO::getCreatedAt)
+                .thenComparing(QuestionDTO::getId).reversed());
+    }
+
+    @Test
+    void searchFindsAnswerTextAndRanksTitleMatchesFirst() {
+        User admin = TestUsers.save(userRepository, "admin-", "ADMIN");
+        QuestionDTO shipping = questionRepository.findDTOsByUserId(users.get(1).getId()).get(0);
+        qnaService.createAnswer(shipping.getId(), new AnswerRequestDTO("교환은 마이페이지에서 신청해 주세요."), admin.getId());
+
+        Page<QuestionDTO> page = qnaService.searchQuestions("교환", 0, PAGE_SIZE);
+
+        // 제목에 "교환" 이 있는 질문 3건이 먼저, 답변에만 있는 질문이 마지막
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(QuestionDTO::getId).last().isEqualTo(shipping.getId());
+        assertThat(page.getContent().subList(0, 3))
+                .allSatisfy(question -> assertThat(question.getTitle()).startsWith("교환"));
+    }
+
+    @Test
+    void questionDetailRunsSingleQueryAndCachesAnsweredQuestions() {
+        QuestionDTO unanswered = questionRepository.findDTOsByUserId(users.get(2).getId()).get(0);
+        QuestionDTO detail = assertStatementCount(1, () -> qnaService.getQuestionById(unanswered.getId()));
+        assertThat(detail.getAnswer()).isNull();
+        // 답변 전 질문은 캐시하지 않는다
+        assertStatementCount(1, () -> qnaService.getQuestionById(unanswered.getId()));
+
+        User admin = TestUsers.save(userRepository, "admin-", "ADMIN");
+        QuestionDTO answered = questionRepository.findDTOsByUserId(users.get(3).getId()).get(0);
+        qnaService.createAnswer(answered.getId(), new AnswerRequestDTO("내일 출고됩니다."), admin.getId());
+
+        QuestionDTO withAnswer = assertStatementCount(1, () -> qnaService.getQuestionById(answered.getId()));
+        assertThat(withAnswer.getUsername()).isEqualTo(users.get(3).getUsername());
+        assertThat(withAnswer.getAnswer().getUsername()).isEqualTo(admin.getUsername());
+        assertStatementCount(0, () -> qnaService.getQuestionById(answered.getId()));
+
+        // 삭제 커밋 후 캐시가 비워진다 (질문 조회 시 답변을 따로 읽지 않는다: 질문, 답변 조회 + 답변, 질문 삭제)
+        assertStatementCount(4, () -> {
+            qnaService.deleteQuestion(answered.getId(), users.get(3).getId());
+            return null;
+        });
+        assertThat(cacheManager.getCache(CacheConfig.QUESTION).get(answered.getId())).isNull();
+    }
+
+    @Test
+    void myQuestionsRunSingleQuery() {
+        User user = users.get(0);
+        List<QuestionDTO> questions = assertStatementCount(1, () -> qnaService.getMyQuestions(user.getId()));
+        assertThat(questions).singleElement()
+                .satisfies(question -> assertThat(question.getUsername()).isEqualTo(user.getUsername()));
+    }
+}
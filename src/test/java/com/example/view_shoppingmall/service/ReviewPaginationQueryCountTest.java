@@ -0,0 +1,114 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.CursorPage;
+import com.example.view_shoppingmall.dto.ReviewDTO;
+import com.example.view_shoppingmall.entity.Product;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.ReviewRepository;
+import com.example.view_shoppingmall.repository.UserRepository;
+import com.example.view_shoppingmall.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.view_shoppingmall.support.SqlStatementCounter.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReviewPaginationQueryCountTest {
+
+    private static final int REVIEWS = 25;
+    private static final int SAME_TIME_REVIEWS = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setName("리뷰 많은 상품");
+        product.setPrice(10000);
+        product.setStock(10);
+        product.setCategory("기타");
+        productId = productRepository.save(product).getId();
+
+        // 작성자가 모두 다른 리뷰 - 앞쪽 일부는 작성 시각이 같아 페이지 경계에서 ID 로 순서가 갈린다
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < REVIEWS; i++) {
+            User user = TestUsers.save(userRepository, "reviewer-");
+            LocalDateTime createdAt = i < SAME_TIME_REVIEWS ? base : base.plusMinutes(i);
+            jdbcTemplate.update(
+                    "INSERT INTO reviews (product_id, user_id, rating, content, created_at) VALUES (?,?,?,?,?)",
+                    productId, user.getId(), i % 5 + 1, "리뷰 " + i, Timestamp.valueOf(createdAt));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void eachPageIsLoadedWithSingleStatementIncludingAuthors() {
+        List<ReviewDTO> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String pageCursor = cursor;
+            CursorPage<ReviewDTO> page = assertStatementCount(1,
+                    () -> reviewService.getReviewsByProductId(productId, pageCursor, 7));
+
+            assertThat(page.getContent()).allSatisfy(review -> assertThat(review.getUsername()).isNotBlank());
+            collected.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(collected).hasSize(REVIEWS);
+        assertThat(collected.stream().map(ReviewDTO::getId).distinct()).hasSize(REVIEWS);
+        assertThat(collected).isSortedAccordingTo(Comparator.comparing(ReviewDTO::getCreatedAt)
+                .thenComparing(ReviewDTO::getId).reversed());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        assertStatementCount(1, () -> reviewService.getReviewsByProductId(productId, null, 5));
+        assertStatementCount(1, () -> reviewService.getReviewsByProductId(productId, null, 50));
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> reviewService.getReviewsByProductId(productId, "not-a-cursor", 10))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
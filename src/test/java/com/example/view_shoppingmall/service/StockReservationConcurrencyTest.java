@@ -0,0 +1,138 @@
+package com.example.view_shoppingmall.service;
+
+import com.example.view_shoppingmall.dto.ProductDTO;
+import com.example.view_shoppingmall.dto.StockReservationDTO;
+import com.example.view_shoppingmall.dto.StockReservationRequest;
+import com.example.view_shoppingmall.entity.Product;
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.repository.ProductRepository;
+import com.example.view_shoppingmall.repository.StockReservationRepository;
+import com.example.view_shoppingmall.repository.UserRepository;
+import com.example.view_shoppingmall.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReservationConcurrencyTest {
+
+    private static final int STOCK = 50;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        Product product = saveProduct(STOCK);
+        User user = TestUsers.save(userRepository, "buyer-");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    try {
+                        stockReservationService.reserve(new StockReservationRequest(product.getId(), 1), user.getId());
+                        reserved.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(reserved.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD - STOCK);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+        assertThat(reservationRepository.count()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void releaseRestoresStockOnlyOnce() {
+        Product product = saveProduct(3);
+        User user = TestUsers.save(userRepository, "buyer-");
+
+        StockReservationDTO reservation = stockReservationService.reserve(
+                new StockReservationRequest(product.getId(), 2), user.getId());
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(1);
+
+        stockReservationService.release(reservation.getId(), user.getId());
+        assertThatThrownBy(() -> stockReservationService.release(reservation.getId(), user.getId()))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> stockReservationService.commit(reservation.getId(), user.getId()))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(3);
+    }
+
+    @Test
+    void productUpdateDoesNotOverwriteReservedStock() {
+        Product product = saveProduct(10);
+        User user = TestUsers.save(userRepository, "buyer-");
+
+        // 관리자가 재고 10 을 본 상태에서 그 사이 예약이 커밋됨
+        ProductDTO stale = productService.getProductById(product.getId());
+        stockReservationService.reserve(new StockReservationRequest(product.getId(), 4), user.getId());
+
+        stale.setName("한정판 운동화 (재입고)");
+        productService.updateProduct(product.getId(), stale);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(6);
+
+        assertThat(stockReservationService.adjustStock(product.getId(), 5)).isEqualTo(11);
+        assertThatThrownBy(() -> stockReservationService.adjustStock(product.getId(), -12))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(11);
+    }
+
+    private Product saveProduct(int stock) {
+        Product product = new Product();
+        product.setName("한정판 운동화");
+        product.setPrice(199000);
+        product.setStock(stock);
+        product.setCategory("신발");
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.view_shoppingmall.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 SQL 실행 횟수 측정기
+ * - hibernate.session_factory.statement_inspector 로 등록되어 Hibernate 가 준비하는 SQL 을 스레드별로 기록한다.
+ * - 스케줄 작업 등 다른 스레드의 쿼리는 섞이지 않으므로 한 호출의 쿼리 수를 정확히 고정할 수 있다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    // 현재 스레드 기록 초기화
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    // 현재 스레드에서 reset 이후 실행된 SQL
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * action 실행 중 SQL 이 정확히 expected 번 실행되었는지 확인하고 결과를 반환한다.
+     */
+    public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+        reset();
+        T result = action.get();
+        List<String> executed = statements();
+        assertThat(executed)
+                .as("SQL statements (expected %d):%n%s", expected, String.join(System.lineSeparator(), executed))
+                .hasSize(expected);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.view_shoppingmall.support;
+
+import com.example.view_shoppingmall.entity.User;
+import com.example.view_shoppingmall.repository.UserRepository;
+
+import java.util.UUID;
+
+/**
+ * 테스트용 사용자 생성
+ * - 사용자명은 접두사 + 임의 문자열이라 같은 컨텍스트를 공유하는 테스트끼리 충돌하지 않는다.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    // 일반 사용자 저장
+    public static User save(UserRepository userRepository, String prefix) {
+        return save(userRepository, prefix, "USER");
+    }
+
+    // 지정한 권한의 사용자 저장
+    public static User save(UserRepository userRepository, String prefix, String role) {
+        User user = new User();
+        user.setUsername(prefix + UUID.randomUUID().toString().substring(0, 8));
+        user.setEmail(user.getUsername() + "@example.com");
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}